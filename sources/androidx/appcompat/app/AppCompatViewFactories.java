@@ -0,0 +1,227 @@
+package androidx.appcompat.app;
+
+import android.content.Context;
+import android.util.AttributeSet;
+import android.view.View;
+import android.webkit.WebView;
+import android.widget.Chronometer;
+import android.widget.FrameLayout;
+import android.widget.HorizontalScrollView;
+import android.widget.LinearLayout;
+import android.widget.ListView;
+import android.widget.ProgressBar;
+import android.widget.RelativeLayout;
+import android.widget.ScrollView;
+import android.widget.Space;
+import androidx.appcompat.view.menu.ActionMenuItemView;
+import androidx.appcompat.view.menu.ExpandedMenuView;
+import androidx.appcompat.view.menu.ListMenuItemView;
+import androidx.appcompat.widget.ActionBarContainer;
+import androidx.appcompat.widget.ActionBarContextView;
+import androidx.appcompat.widget.ActionBarOverlayLayout;
+import androidx.appcompat.widget.ActionMenuView;
+import androidx.appcompat.widget.AlertDialogLayout;
+import androidx.appcompat.widget.ButtonBarLayout;
+import androidx.appcompat.widget.ContentFrameLayout;
+import androidx.appcompat.widget.DialogTitle;
+import androidx.appcompat.widget.FitWindowsFrameLayout;
+import androidx.appcompat.widget.FitWindowsLinearLayout;
+import androidx.appcompat.widget.Toolbar;
+import androidx.appcompat.widget.ViewStubCompat;
+import androidx.collection.ArrayMap;
+import androidx.constraintlayout.widget.ConstraintLayout;
+import androidx.core.widget.NestedScrollView;
+
+public final class AppCompatViewFactories {
+    private static volatile ArrayMap<String, ViewFactory> sFactories = createDefaultFactories();
+
+    public interface ViewFactory {
+        View create(Context context, AttributeSet attributeSet);
+    }
+
+    private AppCompatViewFactories() {
+    }
+
+    public static View create(String name, Context context, AttributeSet attrs) {
+        ViewFactory factory = (ViewFactory) sFactories.get(name);
+        if (factory != null) {
+            return factory.create(context, attrs);
+        }
+        return null;
+    }
+
+    public static boolean hasFactory(String name) {
+        return sFactories.containsKey(name);
+    }
+
+    public static synchronized void register(String name, ViewFactory factory) {
+        if (name == null || factory == null) {
+            throw new NullPointerException("name and factory must not be null");
+        }
+        ArrayMap<String, ViewFactory> factories = new ArrayMap<>(sFactories);
+        factories.put(name, factory);
+        sFactories = factories;
+    }
+
+    public static synchronized void unregister(String name) {
+        if (sFactories.containsKey(name)) {
+            ArrayMap<String, ViewFactory> factories = new ArrayMap<>(sFactories);
+            factories.remove(name);
+            sFactories = factories;
+        }
+    }
+
+    private static void put(ArrayMap<String, ViewFactory> factories, String prefix, String name, ViewFactory factory) {
+        factories.put(name, factory);
+        StringBuilder sb = new StringBuilder();
+        sb.append(prefix);
+        sb.append(name);
+        factories.put(sb.toString(), factory);
+    }
+
+    private static ArrayMap<String, ViewFactory> createDefaultFactories() {
+        ArrayMap<String, ViewFactory> factories = new ArrayMap<>(48);
+        put(factories, "android.view.", "View", new ViewFactory() {
+            public View create(Context context, AttributeSet attrs) {
+                return new View(context, attrs);
+            }
+        });
+        put(factories, "android.webkit.", "WebView", new ViewFactory() {
+            public View create(Context context, AttributeSet attrs) {
+                return new WebView(context, attrs);
+            }
+        });
+        String str2 = "android.widget.";
+        put(factories, str2, "LinearLayout", new ViewFactory() {
+            public View create(Context context, AttributeSet attrs) {
+                return new LinearLayout(context, attrs);
+            }
+        });
+        put(factories, str2, "FrameLayout", new ViewFactory() {
+            public View create(Context context, AttributeSet attrs) {
+                return new FrameLayout(context, attrs);
+            }
+        });
+        put(factories, str2, "RelativeLayout", new ViewFactory() {
+            public View create(Context context, AttributeSet attrs) {
+                return new RelativeLayout(context, attrs);
+            }
+        });
+        put(factories, str2, "ScrollView", new ViewFactory() {
+            public View create(Context context, AttributeSet attrs) {
+                return new ScrollView(context, attrs);
+            }
+        });
+        put(factories, str2, "HorizontalScrollView", new ViewFactory() {
+            public View create(Context context, AttributeSet attrs) {
+                return new HorizontalScrollView(context, attrs);
+            }
+        });
+        put(factories, str2, "ListView", new ViewFactory() {
+            public View create(Context context, AttributeSet attrs) {
+                return new ListView(context, attrs);
+            }
+        });
+        put(factories, str2, "ProgressBar", new ViewFactory() {
+            public View create(Context context, AttributeSet attrs) {
+                return new ProgressBar(context, attrs);
+            }
+        });
+        put(factories, str2, "Space", new ViewFactory() {
+            public View create(Context context, AttributeSet attrs) {
+                return new Space(context, attrs);
+            }
+        });
+        put(factories, str2, "Chronometer", new ViewFactory() {
+            public View create(Context context, AttributeSet attrs) {
+                return new Chronometer(context, attrs);
+            }
+        });
+        factories.put("androidx.appcompat.view.menu.ActionMenuItemView", new ViewFactory() {
+            public View create(Context context, AttributeSet attrs) {
+                return new ActionMenuItemView(context, attrs);
+            }
+        });
+        factories.put("androidx.appcompat.view.menu.ExpandedMenuView", new ViewFactory() {
+            public View create(Context context, AttributeSet attrs) {
+                return new ExpandedMenuView(context, attrs);
+            }
+        });
+        factories.put("androidx.appcompat.view.menu.ListMenuItemView", new ViewFactory() {
+            public View create(Context context, AttributeSet attrs) {
+                return new ListMenuItemView(context, attrs);
+            }
+        });
+        factories.put("androidx.appcompat.widget.ActionBarContainer", new ViewFactory() {
+            public View create(Context context, AttributeSet attrs) {
+                return new ActionBarContainer(context, attrs);
+            }
+        });
+        factories.put("androidx.appcompat.widget.ActionBarContextView", new ViewFactory() {
+            public View create(Context context, AttributeSet attrs) {
+                return new ActionBarContextView(context, attrs);
+            }
+        });
+        factories.put("androidx.appcompat.widget.ActionBarOverlayLayout", new ViewFactory() {
+            public View create(Context context, AttributeSet attrs) {
+                return new ActionBarOverlayLayout(context, attrs);
+            }
+        });
+        factories.put("androidx.appcompat.widget.ActionMenuView", new ViewFactory() {
+            public View create(Context context, AttributeSet attrs) {
+                return new ActionMenuView(context, attrs);
+            }
+        });
+        factories.put("androidx.appcompat.widget.AlertDialogLayout", new ViewFactory() {
+            public View create(Context context, AttributeSet attrs) {
+                return new AlertDialogLayout(context, attrs);
+            }
+        });
+        factories.put("androidx.appcompat.widget.ButtonBarLayout", new ViewFactory() {
+            public View create(Context context, AttributeSet attrs) {
+                return new ButtonBarLayout(context, attrs);
+            }
+        });
+        factories.put("androidx.appcompat.widget.ContentFrameLayout", new ViewFactory() {
+            public View create(Context context, AttributeSet attrs) {
+                return new ContentFrameLayout(context, attrs);
+            }
+        });
+        factories.put("androidx.appcompat.widget.DialogTitle", new ViewFactory() {
+            public View create(Context context, AttributeSet attrs) {
+                return new DialogTitle(context, attrs);
+            }
+        });
+        factories.put("androidx.appcompat.widget.FitWindowsFrameLayout", new ViewFactory() {
+            public View create(Context context, AttributeSet attrs) {
+                return new FitWindowsFrameLayout(context, attrs);
+            }
+        });
+        factories.put("androidx.appcompat.widget.FitWindowsLinearLayout", new ViewFactory() {
+            public View create(Context context, AttributeSet attrs) {
+                return new FitWindowsLinearLayout(context, attrs);
+            }
+        });
+        factories.put("androidx.appcompat.widget.Toolbar", new ViewFactory() {
+            public View create(Context context, AttributeSet attrs) {
+                return new Toolbar(context, attrs);
+            }
+        });
+        factories.put("androidx.appcompat.widget.ViewStubCompat", new ViewFactory() {
+            public View create(Context context, AttributeSet attrs) {
+                return new ViewStubCompat(context, attrs);
+            }
+        });
+        factories.put("androidx.constraintlayout.widget.ConstraintLayout", new ViewFactory() {
+            public View create(Context context, AttributeSet attrs) {
+                return new ConstraintLayout(context, attrs);
+            }
+        });
+        factories.put("androidx.core.widget.NestedScrollView", new ViewFactory() {
+            public View create(Context context, AttributeSet attrs) {
+                return new NestedScrollView(context, attrs);
+            }
+        });
+        return factories;
+    }
+}
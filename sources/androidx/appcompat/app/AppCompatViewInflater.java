@@ -255,6 +255,9 @@ public class AppCompatViewInflater {
                 break;
             default:
                 view = createView(context, name, attrs);
+                if (view == null) {
+                    view = AppCompatViewFactories.create(name, context, attrs);
+                }
                 break;
         }
         if (view == null && originalContext != context) {
@@ -351,6 +354,10 @@ public class AppCompatViewInflater {
         if (name.equals("view")) {
             name = attrs.getAttributeValue(null, "class");
         }
+        View registered = AppCompatViewFactories.create(name, context, attrs);
+        if (registered != null) {
+            return registered;
+        }
         try {
             this.mConstructorArgs[0] = context;
             this.mConstructorArgs[1] = attrs;
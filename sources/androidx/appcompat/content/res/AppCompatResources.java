@@ -59,50 +59,27 @@ public final class AppCompatResources {
         }
         Resources r = context.getResources();
         try {
-            return ColorStateListInflaterCompat.createFromXml(r, r.getXml(resId), context.getTheme());
+            return ColorStateListInflaterCompat.inflate(r, resId, context.getTheme());
         } catch (Exception e) {
             Log.e(LOG_TAG, "Failed to inflate ColorStateList, leaving it to the framework", e);
             return null;
         }
     }
 
-    /* JADX WARNING: Code restructure failed: missing block: B:17:0x0034, code lost:
-        return null;
-     */
-    /* Code decompiled incorrectly, please refer to instructions dump. */
-    private static android.content.res.ColorStateList getCachedColorStateList(android.content.Context r5, int r6) {
-        /*
-            java.lang.Object r0 = sColorStateCacheLock
-            monitor-enter(r0)
-            java.util.WeakHashMap<android.content.Context, android.util.SparseArray<androidx.appcompat.content.res.AppCompatResources$ColorStateListCacheEntry>> r1 = sColorStateCaches     // Catch:{ all -> 0x0035 }
-            java.lang.Object r1 = r1.get(r5)     // Catch:{ all -> 0x0035 }
-            android.util.SparseArray r1 = (android.util.SparseArray) r1     // Catch:{ all -> 0x0035 }
-            if (r1 == 0) goto L_0x0032
-            int r2 = r1.size()     // Catch:{ all -> 0x0035 }
-            if (r2 <= 0) goto L_0x0032
-            java.lang.Object r2 = r1.get(r6)     // Catch:{ all -> 0x0035 }
-            androidx.appcompat.content.res.AppCompatResources$ColorStateListCacheEntry r2 = (androidx.appcompat.content.res.AppCompatResources.ColorStateListCacheEntry) r2     // Catch:{ all -> 0x0035 }
-            if (r2 == 0) goto L_0x0032
-            android.content.res.Configuration r3 = r2.configuration     // Catch:{ all -> 0x0035 }
-            android.content.res.Resources r4 = r5.getResources()     // Catch:{ all -> 0x0035 }
-            android.content.res.Configuration r4 = r4.getConfiguration()     // Catch:{ all -> 0x0035 }
-            boolean r3 = r3.equals(r4)     // Catch:{ all -> 0x0035 }
-            if (r3 == 0) goto L_0x002f
-            android.content.res.ColorStateList r3 = r2.value     // Catch:{ all -> 0x0035 }
-            monitor-exit(r0)     // Catch:{ all -> 0x0035 }
-            return r3
-        L_0x002f:
-            r1.remove(r6)     // Catch:{ all -> 0x0035 }
-        L_0x0032:
-            monitor-exit(r0)     // Catch:{ all -> 0x0035 }
-            r0 = 0
-            return r0
-        L_0x0035:
-            r1 = move-exception
-            monitor-exit(r0)     // Catch:{ all -> 0x0035 }
-            throw r1
-        */
-        throw new UnsupportedOperationException("Method not decompiled: androidx.appcompat.content.res.AppCompatResources.getCachedColorStateList(android.content.Context, int):android.content.res.ColorStateList");
+    private static ColorStateList getCachedColorStateList(Context context, int resId) {
+        synchronized (sColorStateCacheLock) {
+            SparseArray<ColorStateListCacheEntry> entries = (SparseArray) sColorStateCaches.get(context);
+            if (entries != null && entries.size() > 0) {
+                ColorStateListCacheEntry entry = (ColorStateListCacheEntry) entries.get(resId);
+                if (entry != null) {
+                    if (entry.configuration.equals(context.getResources().getConfiguration())) {
+                        return entry.value;
+                    }
+                    entries.remove(resId);
+                }
+            }
+            return null;
+        }
     }
 
     private static void addColorStateListToCache(Context context, int resId, ColorStateList value) {
@@ -2,37 +2,37 @@ package androidx.appcompat.widget;
 
 import android.content.Context;
 import android.content.res.ColorStateList;
+import android.content.res.Resources;
 import android.content.res.Resources.Theme;
 import android.graphics.PorterDuff.Mode;
 import android.graphics.PorterDuffColorFilter;
 import android.graphics.drawable.Drawable;
-import android.graphics.drawable.Drawable.ConstantState;
 import android.graphics.drawable.LayerDrawable;
 import android.os.Build.VERSION;
 import android.util.AttributeSet;
 import android.util.Log;
 import android.util.TypedValue;
+import android.util.Xml;
 import androidx.appcompat.C0002R;
 import androidx.appcompat.content.res.AppCompatResources;
 import androidx.appcompat.graphics.drawable.AnimatedStateListDrawableCompat;
 import androidx.collection.ArrayMap;
-import androidx.collection.LongSparseArray;
-import androidx.collection.LruCache;
 import androidx.collection.SparseArrayCompat;
 import androidx.core.content.ContextCompat;
+import androidx.core.content.res.ComplexColorCache;
 import androidx.core.graphics.ColorUtils;
 import androidx.core.graphics.drawable.DrawableCompat;
 import androidx.vectordrawable.graphics.drawable.AnimatedVectorDrawableCompat;
 import androidx.vectordrawable.graphics.drawable.VectorDrawableCompat;
-import java.lang.ref.WeakReference;
 import java.util.WeakHashMap;
 import org.xmlpull.v1.XmlPullParser;
+import org.xmlpull.v1.XmlPullParserException;
 
 public final class AppCompatDrawableManager {
     private static final int[] COLORFILTER_COLOR_BACKGROUND_MULTIPLY = {C0002R.C0003drawable.abc_popup_background_mtrl_mult, C0002R.C0003drawable.abc_cab_background_internal_bg, C0002R.C0003drawable.abc_menu_hardkey_panel_mtrl_mult};
     private static final int[] COLORFILTER_COLOR_CONTROL_ACTIVATED = {C0002R.C0003drawable.abc_textfield_activated_mtrl_alpha, C0002R.C0003drawable.abc_textfield_search_activated_mtrl_alpha, C0002R.C0003drawable.abc_cab_background_top_mtrl_alpha, C0002R.C0003drawable.abc_text_cursor_material, C0002R.C0003drawable.abc_text_select_handle_left_mtrl_dark, C0002R.C0003drawable.abc_text_select_handle_middle_mtrl_dark, C0002R.C0003drawable.abc_text_select_handle_right_mtrl_dark, C0002R.C0003drawable.abc_text_select_handle_left_mtrl_light, C0002R.C0003drawable.abc_text_select_handle_middle_mtrl_light, C0002R.C0003drawable.abc_text_select_handle_right_mtrl_light};
     private static final int[] COLORFILTER_TINT_COLOR_CONTROL_NORMAL = {C0002R.C0003drawable.abc_textfield_search_default_mtrl_alpha, C0002R.C0003drawable.abc_textfield_default_mtrl_alpha, C0002R.C0003drawable.abc_ab_share_pack_mtrl_alpha};
-    private static final ColorFilterLruCache COLOR_FILTER_CACHE = new ColorFilterLruCache(6);
+    private static final ColorFilterCache COLOR_FILTER_CACHE = new ColorFilterCache(64);
     private static final boolean DEBUG = false;
     private static final Mode DEFAULT_MODE = Mode.SRC_IN;
     private static AppCompatDrawableManager INSTANCE = null;
@@ -43,11 +43,10 @@ public final class AppCompatDrawableManager {
     private static final int[] TINT_COLOR_CONTROL_NORMAL = {C0002R.C0003drawable.abc_ic_commit_search_api_mtrl_alpha, C0002R.C0003drawable.abc_seekbar_tick_mark_material, C0002R.C0003drawable.abc_ic_menu_share_mtrl_alpha, C0002R.C0003drawable.abc_ic_menu_copy_mtrl_am_alpha, C0002R.C0003drawable.abc_ic_menu_cut_mtrl_alpha, C0002R.C0003drawable.abc_ic_menu_selectall_mtrl_alpha, C0002R.C0003drawable.abc_ic_menu_paste_mtrl_am_alpha};
     private static final int[] TINT_COLOR_CONTROL_STATE_LIST = {C0002R.C0003drawable.abc_tab_indicator_material, C0002R.C0003drawable.abc_textfield_search_material};
     private ArrayMap<String, InflateDelegate> mDelegates;
-    private final WeakHashMap<Context, LongSparseArray<WeakReference<ConstantState>>> mDrawableCaches = new WeakHashMap<>(0);
+    private final SharedDrawableCache mDrawableCache = new SharedDrawableCache();
     private boolean mHasCheckedVectorDrawableSetup;
     private SparseArrayCompat<String> mKnownDrawableIdTags;
     private WeakHashMap<Context, SparseArrayCompat<ColorStateList>> mTintLists;
-    private TypedValue mTypedValue;
 
     static class AsldcInflateDelegate implements InflateDelegate {
         AsldcInflateDelegate() {
@@ -77,26 +76,6 @@ public final class AppCompatDrawableManager {
         }
     }
 
-    private static class ColorFilterLruCache extends LruCache<Integer, PorterDuffColorFilter> {
-        public ColorFilterLruCache(int maxSize) {
-            super(maxSize);
-        }
-
-        /* access modifiers changed from: 0000 */
-        public PorterDuffColorFilter get(int color, Mode mode) {
-            return (PorterDuffColorFilter) get(Integer.valueOf(generateCacheKey(color, mode)));
-        }
-
-        /* access modifiers changed from: 0000 */
-        public PorterDuffColorFilter put(int color, Mode mode, PorterDuffColorFilter filter) {
-            return (PorterDuffColorFilter) put(Integer.valueOf(generateCacheKey(color, mode)), filter);
-        }
-
-        private static int generateCacheKey(int color, Mode mode) {
-            return (((1 * 31) + color) * 31) + mode.hashCode();
-        }
-    }
-
     private interface InflateDelegate {
         Drawable createFromXmlInner(Context context, XmlPullParser xmlPullParser, AttributeSet attributeSet, Theme theme);
     }
@@ -135,12 +114,12 @@ public final class AppCompatDrawableManager {
         }
     }
 
-    public synchronized Drawable getDrawable(Context context, int resId) {
+    public Drawable getDrawable(Context context, int resId) {
         return getDrawable(context, resId, false);
     }
 
     /* access modifiers changed from: 0000 */
-    public synchronized Drawable getDrawable(Context context, int resId, boolean failIfNotKnown) {
+    public Drawable getDrawable(Context context, int resId, boolean failIfNotKnown) {
         Drawable drawable;
         checkVectorDrawableSetup(context);
         drawable = loadDrawableFromDelegates(context, resId);
@@ -159,11 +138,13 @@ public final class AppCompatDrawableManager {
         return drawable;
     }
 
-    public synchronized void onConfigurationChanged(Context context) {
-        LongSparseArray<WeakReference<ConstantState>> cache = (LongSparseArray) this.mDrawableCaches.get(context);
-        if (cache != null) {
-            cache.clear();
-        }
+    public void onConfigurationChanged(Context context) {
+        this.mDrawableCache.purge();
+        ComplexColorCache.getInstance().onConfigurationChanged(context.getResources());
+    }
+
+    public SharedDrawableCache getDrawableCache() {
+        return this.mDrawableCache;
     }
 
     private static long createCacheKey(TypedValue tv) {
@@ -171,10 +152,7 @@ public final class AppCompatDrawableManager {
     }
 
     private Drawable createDrawableIfNeeded(Context context, int resId) {
-        if (this.mTypedValue == null) {
-            this.mTypedValue = new TypedValue();
-        }
-        TypedValue tv = this.mTypedValue;
+        TypedValue tv = new TypedValue();
         context.getResources().getValue(resId, tv, true);
         long key = createCacheKey(tv);
         Drawable dr = getCachedDrawable(context, key);
@@ -224,165 +202,79 @@ public final class AppCompatDrawableManager {
         }
     }
 
-    /* JADX WARNING: Removed duplicated region for block: B:30:0x0078 A[Catch:{ Exception -> 0x00a8 }] */
-    /* JADX WARNING: Removed duplicated region for block: B:36:0x00a0 A[Catch:{ Exception -> 0x00a8 }] */
-    /* Code decompiled incorrectly, please refer to instructions dump. */
-    private android.graphics.drawable.Drawable loadDrawableFromDelegates(android.content.Context r13, int r14) {
-        /*
-            r12 = this;
-            androidx.collection.ArrayMap<java.lang.String, androidx.appcompat.widget.AppCompatDrawableManager$InflateDelegate> r0 = r12.mDelegates
-            r1 = 0
-            if (r0 == 0) goto L_0x00b8
-            boolean r0 = r0.isEmpty()
-            if (r0 != 0) goto L_0x00b8
-            androidx.collection.SparseArrayCompat<java.lang.String> r0 = r12.mKnownDrawableIdTags
-            java.lang.String r2 = "appcompat_skip_skip"
-            if (r0 == 0) goto L_0x002a
-            java.lang.Object r0 = r0.get(r14)
-            java.lang.String r0 = (java.lang.String) r0
-            boolean r3 = r2.equals(r0)
-            if (r3 != 0) goto L_0x0029
-            if (r0 == 0) goto L_0x0028
-            androidx.collection.ArrayMap<java.lang.String, androidx.appcompat.widget.AppCompatDrawableManager$InflateDelegate> r3 = r12.mDelegates
-            java.lang.Object r3 = r3.get(r0)
-            if (r3 != 0) goto L_0x0028
-            goto L_0x0029
-        L_0x0028:
-            goto L_0x0031
-        L_0x0029:
-            return r1
-        L_0x002a:
-            androidx.collection.SparseArrayCompat r0 = new androidx.collection.SparseArrayCompat
-            r0.<init>()
-            r12.mKnownDrawableIdTags = r0
-        L_0x0031:
-            android.util.TypedValue r0 = r12.mTypedValue
-            if (r0 != 0) goto L_0x003c
-            android.util.TypedValue r0 = new android.util.TypedValue
-            r0.<init>()
-            r12.mTypedValue = r0
-        L_0x003c:
-            android.util.TypedValue r0 = r12.mTypedValue
-            android.content.res.Resources r1 = r13.getResources()
-            r3 = 1
-            r1.getValue(r14, r0, r3)
-            long r4 = createCacheKey(r0)
-            android.graphics.drawable.Drawable r6 = r12.getCachedDrawable(r13, r4)
-            if (r6 == 0) goto L_0x0051
-            return r6
-        L_0x0051:
-            java.lang.CharSequence r7 = r0.string
-            if (r7 == 0) goto L_0x00b0
-            java.lang.CharSequence r7 = r0.string
-            java.lang.String r7 = r7.toString()
-            java.lang.String r8 = ".xml"
-            boolean r7 = r7.endsWith(r8)
-            if (r7 == 0) goto L_0x00b0
-            android.content.res.XmlResourceParser r7 = r1.getXml(r14)     // Catch:{ Exception -> 0x00a8 }
-            android.util.AttributeSet r8 = android.util.Xml.asAttributeSet(r7)     // Catch:{ Exception -> 0x00a8 }
-        L_0x006b:
-            int r9 = r7.next()     // Catch:{ Exception -> 0x00a8 }
-            r10 = r9
-            r11 = 2
-            if (r9 == r11) goto L_0x0076
-            if (r10 == r3) goto L_0x0076
-            goto L_0x006b
-        L_0x0076:
-            if (r10 != r11) goto L_0x00a0
-            java.lang.String r3 = r7.getName()     // Catch:{ Exception -> 0x00a8 }
-            androidx.collection.SparseArrayCompat<java.lang.String> r9 = r12.mKnownDrawableIdTags     // Catch:{ Exception -> 0x00a8 }
-            r9.append(r14, r3)     // Catch:{ Exception -> 0x00a8 }
-            androidx.collection.ArrayMap<java.lang.String, androidx.appcompat.widget.AppCompatDrawableManager$InflateDelegate> r9 = r12.mDelegates     // Catch:{ Exception -> 0x00a8 }
-            java.lang.Object r9 = r9.get(r3)     // Catch:{ Exception -> 0x00a8 }
-            androidx.appcompat.widget.AppCompatDrawableManager$InflateDelegate r9 = (androidx.appcompat.widget.AppCompatDrawableManager.InflateDelegate) r9     // Catch:{ Exception -> 0x00a8 }
-            if (r9 == 0) goto L_0x0095
-            android.content.res.Resources$Theme r11 = r13.getTheme()     // Catch:{ Exception -> 0x00a8 }
-            android.graphics.drawable.Drawable r11 = r9.createFromXmlInner(r13, r7, r8, r11)     // Catch:{ Exception -> 0x00a8 }
-            r6 = r11
-        L_0x0095:
-            if (r6 == 0) goto L_0x009f
-            int r11 = r0.changingConfigurations     // Catch:{ Exception -> 0x00a8 }
-            r6.setChangingConfigurations(r11)     // Catch:{ Exception -> 0x00a8 }
-            r12.addDrawableToCache(r13, r4, r6)     // Catch:{ Exception -> 0x00a8 }
-        L_0x009f:
-            goto L_0x00b0
-        L_0x00a0:
-            org.xmlpull.v1.XmlPullParserException r3 = new org.xmlpull.v1.XmlPullParserException     // Catch:{ Exception -> 0x00a8 }
-            java.lang.String r9 = "No start tag found"
-            r3.<init>(r9)     // Catch:{ Exception -> 0x00a8 }
-            throw r3     // Catch:{ Exception -> 0x00a8 }
-        L_0x00a8:
-            r3 = move-exception
-            java.lang.String r7 = "AppCompatDrawableManag"
-            java.lang.String r8 = "Exception while inflating drawable"
-            android.util.Log.e(r7, r8, r3)
-        L_0x00b0:
-            if (r6 != 0) goto L_0x00b7
-            androidx.collection.SparseArrayCompat<java.lang.String> r3 = r12.mKnownDrawableIdTags
-            r3.append(r14, r2)
-        L_0x00b7:
-            return r6
-        L_0x00b8:
-            return r1
-        */
-        throw new UnsupportedOperationException("Method not decompiled: androidx.appcompat.widget.AppCompatDrawableManager.loadDrawableFromDelegates(android.content.Context, int):android.graphics.drawable.Drawable");
-    }
-
-    /* JADX WARNING: Code restructure failed: missing block: B:18:0x002c, code lost:
-        return null;
-     */
-    /* Code decompiled incorrectly, please refer to instructions dump. */
-    private synchronized android.graphics.drawable.Drawable getCachedDrawable(android.content.Context r5, long r6) {
-        /*
-            r4 = this;
-            monitor-enter(r4)
-            java.util.WeakHashMap<android.content.Context, androidx.collection.LongSparseArray<java.lang.ref.WeakReference<android.graphics.drawable.Drawable$ConstantState>>> r0 = r4.mDrawableCaches     // Catch:{ all -> 0x002d }
-            java.lang.Object r0 = r0.get(r5)     // Catch:{ all -> 0x002d }
-            androidx.collection.LongSparseArray r0 = (androidx.collection.LongSparseArray) r0     // Catch:{ all -> 0x002d }
-            r1 = 0
-            if (r0 != 0) goto L_0x000e
-            monitor-exit(r4)
-            return r1
-        L_0x000e:
-            java.lang.Object r2 = r0.get(r6)     // Catch:{ all -> 0x002d }
-            java.lang.ref.WeakReference r2 = (java.lang.ref.WeakReference) r2     // Catch:{ all -> 0x002d }
-            if (r2 == 0) goto L_0x002b
-            java.lang.Object r3 = r2.get()     // Catch:{ all -> 0x002d }
-            android.graphics.drawable.Drawable$ConstantState r3 = (android.graphics.drawable.Drawable.ConstantState) r3     // Catch:{ all -> 0x002d }
-            if (r3 == 0) goto L_0x0028
-            android.content.res.Resources r1 = r5.getResources()     // Catch:{ all -> 0x002d }
-            android.graphics.drawable.Drawable r1 = r3.newDrawable(r1)     // Catch:{ all -> 0x002d }
-            monitor-exit(r4)
-            return r1
-        L_0x0028:
-            r0.delete(r6)     // Catch:{ all -> 0x002d }
-        L_0x002b:
-            monitor-exit(r4)
-            return r1
-        L_0x002d:
-            r5 = move-exception
-            monitor-exit(r4)
-            throw r5
-        */
-        throw new UnsupportedOperationException("Method not decompiled: androidx.appcompat.widget.AppCompatDrawableManager.getCachedDrawable(android.content.Context, long):android.graphics.drawable.Drawable");
-    }
-
-    private synchronized boolean addDrawableToCache(Context context, long key, Drawable drawable) {
-        ConstantState cs = drawable.getConstantState();
-        if (cs == null) {
-            return false;
+    private Drawable loadDrawableFromDelegates(Context context, int resId) {
+        ArrayMap<String, InflateDelegate> arrayMap = this.mDelegates;
+        if (arrayMap == null || arrayMap.isEmpty()) {
+            return null;
         }
-        LongSparseArray longSparseArray = (LongSparseArray) this.mDrawableCaches.get(context);
-        if (longSparseArray == null) {
-            longSparseArray = new LongSparseArray();
-            this.mDrawableCaches.put(context, longSparseArray);
+        synchronized (this) {
+            SparseArrayCompat<String> sparseArrayCompat = this.mKnownDrawableIdTags;
+            if (sparseArrayCompat != null) {
+                String cachedTagName = (String) sparseArrayCompat.get(resId);
+                if (SKIP_DRAWABLE_TAG.equals(cachedTagName) || (cachedTagName != null && this.mDelegates.get(cachedTagName) == null)) {
+                    return null;
+                }
+            } else {
+                this.mKnownDrawableIdTags = new SparseArrayCompat<>();
+            }
         }
-        longSparseArray.put(key, new WeakReference(cs));
-        return true;
+        TypedValue tv = new TypedValue();
+        Resources res = context.getResources();
+        res.getValue(resId, tv, true);
+        long key = createCacheKey(tv);
+        Drawable dr = getCachedDrawable(context, key);
+        if (dr != null) {
+            return dr;
+        }
+        if (tv.string != null && tv.string.toString().endsWith(".xml")) {
+            try {
+                XmlPullParser parser = res.getXml(resId);
+                AttributeSet attrs = Xml.asAttributeSet(parser);
+                int type;
+                do {
+                    type = parser.next();
+                    if (type == 2) {
+                        break;
+                    }
+                } while (type != 1);
+                if (type == 2) {
+                    String tagName = parser.getName();
+                    synchronized (this) {
+                        this.mKnownDrawableIdTags.append(resId, tagName);
+                    }
+                    InflateDelegate delegate = (InflateDelegate) this.mDelegates.get(tagName);
+                    if (delegate != null) {
+                        dr = delegate.createFromXmlInner(context, parser, attrs, context.getTheme());
+                    }
+                    if (dr != null) {
+                        dr.setChangingConfigurations(tv.changingConfigurations);
+                        addDrawableToCache(context, key, dr);
+                    }
+                } else {
+                    throw new XmlPullParserException("No start tag found");
+                }
+            } catch (Exception e) {
+                Log.e(TAG, "Exception while inflating drawable", e);
+            }
+        }
+        if (dr == null) {
+            synchronized (this) {
+                this.mKnownDrawableIdTags.append(resId, SKIP_DRAWABLE_TAG);
+            }
+        }
+        return dr;
+    }
+
+    private Drawable getCachedDrawable(Context context, long key) {
+        return this.mDrawableCache.get(context, key);
+    }
+
+    private boolean addDrawableToCache(Context context, long key, Drawable drawable) {
+        return this.mDrawableCache.put(context, key, drawable);
     }
 
     /* access modifiers changed from: 0000 */
-    public synchronized Drawable onDrawableLoadedFromResources(Context context, VectorEnabledTintResources resources, int resId) {
+    public Drawable onDrawableLoadedFromResources(Context context, VectorEnabledTintResources resources, int resId) {
         Drawable drawable = loadDrawableFromDelegates(context, resId);
         if (drawable == null) {
             drawable = resources.superGetDrawable(resId);
@@ -606,16 +498,12 @@ public final class AppCompatDrawableManager {
         return getPorterDuffColorFilter(tint.getColorForState(state, 0), tintMode);
     }
 
-    public static synchronized PorterDuffColorFilter getPorterDuffColorFilter(int color, Mode mode) {
-        PorterDuffColorFilter filter;
-        synchronized (AppCompatDrawableManager.class) {
-            filter = COLOR_FILTER_CACHE.get(color, mode);
-            if (filter == null) {
-                filter = new PorterDuffColorFilter(color, mode);
-                COLOR_FILTER_CACHE.put(color, mode, filter);
-            }
-        }
-        return filter;
+    public static PorterDuffColorFilter getPorterDuffColorFilter(int color, Mode mode) {
+        return COLOR_FILTER_CACHE.obtain(color, mode);
+    }
+
+    public static ColorFilterCache getColorFilterCache() {
+        return COLOR_FILTER_CACHE;
     }
 
     private static void setPorterDuffColorFilter(Drawable d, int color, Mode mode) {
@@ -0,0 +1,132 @@
+package androidx.appcompat.widget;
+
+import android.graphics.PorterDuff.Mode;
+import android.graphics.PorterDuffColorFilter;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+public final class ColorFilterCache {
+    private static final int MAX_PROBES = 4;
+    private final AtomicLong mEvictionCount = new AtomicLong();
+    private final AtomicLong mMissCount = new AtomicLong();
+    private final AtomicInteger mSize = new AtomicInteger();
+    private volatile AtomicReferenceArray<Entry> mTable;
+    private final AtomicInteger mVictim = new AtomicInteger();
+
+    private static final class Entry {
+        final PorterDuffColorFilter mFilter;
+        final long mKey;
+
+        Entry(long key, PorterDuffColorFilter filter) {
+            this.mKey = key;
+            this.mFilter = filter;
+        }
+    }
+
+    public ColorFilterCache(int capacity) {
+        this.mTable = new AtomicReferenceArray<>(tableSizeFor(capacity));
+    }
+
+    public PorterDuffColorFilter get(int color, Mode mode) {
+        long key = createKey(color, mode);
+        AtomicReferenceArray<Entry> table = this.mTable;
+        int mask = table.length() - 1;
+        int index = mix(key) & mask;
+        for (int i = 0; i < MAX_PROBES; i++) {
+            Entry entry = (Entry) table.get((index + i) & mask);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.mKey == key) {
+                return entry.mFilter;
+            }
+        }
+        return null;
+    }
+
+    public PorterDuffColorFilter obtain(int color, Mode mode) {
+        PorterDuffColorFilter filter = get(color, mode);
+        if (filter != null) {
+            return filter;
+        }
+        this.mMissCount.incrementAndGet();
+        PorterDuffColorFilter filter2 = new PorterDuffColorFilter(color, mode);
+        put(createKey(color, mode), filter2);
+        return filter2;
+    }
+
+    public void setCapacity(int capacity) {
+        int size = tableSizeFor(capacity);
+        if (size != this.mTable.length()) {
+            this.mTable = new AtomicReferenceArray<>(size);
+            this.mSize.set(0);
+        }
+    }
+
+    public int getCapacity() {
+        return this.mTable.length();
+    }
+
+    public int size() {
+        return this.mSize.get();
+    }
+
+    public long getMissCount() {
+        return this.mMissCount.get();
+    }
+
+    public long getEvictionCount() {
+        return this.mEvictionCount.get();
+    }
+
+    public void evictAll() {
+        this.mTable = new AtomicReferenceArray<>(this.mTable.length());
+        this.mSize.set(0);
+    }
+
+    private void put(long key, PorterDuffColorFilter filter) {
+        AtomicReferenceArray<Entry> table = this.mTable;
+        int mask = table.length() - 1;
+        int index = mix(key) & mask;
+        Entry entry = new Entry(key, filter);
+        for (int i = 0; i < MAX_PROBES; i++) {
+            int slot = (index + i) & mask;
+            Entry current = (Entry) table.get(slot);
+            if (current == null) {
+                if (table.compareAndSet(slot, null, entry)) {
+                    this.mSize.incrementAndGet();
+                    return;
+                }
+                current = (Entry) table.get(slot);
+            }
+            if (current != null && current.mKey == key) {
+                return;
+            }
+        }
+        int slot2 = (index + (this.mVictim.getAndIncrement() & (MAX_PROBES - 1))) & mask;
+        if (table.getAndSet(slot2, entry) != null) {
+            this.mEvictionCount.incrementAndGet();
+        }
+    }
+
+    private static long createKey(int color, Mode mode) {
+        return (((long) mode.ordinal()) << 32) | (((long) color) & 4294967295L);
+    }
+
+    private static int mix(long key) {
+        long h = key * -7046029254386353131L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static int tableSizeFor(int capacity) {
+        if (capacity > 0) {
+            int size = MAX_PROBES;
+            while (size < capacity && size < 1073741824) {
+                size <<= 1;
+            }
+            return size;
+        }
+        throw new IllegalArgumentException("capacity <= 0");
+    }
+}
@@ -0,0 +1,331 @@
+package androidx.appcompat.widget;
+
+import android.content.Context;
+import android.content.res.AssetManager;
+import android.content.res.Configuration;
+import android.content.res.Resources;
+import android.content.res.Resources.Theme;
+import android.graphics.Bitmap;
+import android.graphics.drawable.BitmapDrawable;
+import android.graphics.drawable.Drawable;
+import android.graphics.drawable.Drawable.ConstantState;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map.Entry;
+
+public final class SharedDrawableCache {
+    private static final int DEFAULT_MAX_BYTES = 4194304;
+    private static final int MIN_ENTRY_BYTES = 1024;
+    private static final int STRIPE_COUNT = 16;
+    private final Stripe[] mStripes = new Stripe[STRIPE_COUNT];
+
+    private static final class Key {
+        final WeakReference<AssetManager> mAssets;
+        final Configuration mConfig;
+        private final int mHash;
+        final long mResKey;
+        final WeakReference<Theme> mTheme;
+
+        Key(AssetManager assets, Configuration config, Theme theme, long resKey) {
+            this.mAssets = new WeakReference<>(assets);
+            this.mConfig = config;
+            this.mTheme = theme != null ? new WeakReference<>(theme) : null;
+            this.mResKey = resKey;
+            this.mHash = (((((System.identityHashCode(assets) * 31) + config.hashCode()) * 31) + (theme != null ? theme.hashCode() : 0)) * 31) + ((int) ((resKey >>> 32) ^ resKey));
+        }
+
+        /* access modifiers changed from: 0000 */
+        public boolean isCleared() {
+            if (this.mAssets.get() == null) {
+                return true;
+            }
+            WeakReference<Theme> weakReference = this.mTheme;
+            return weakReference != null && weakReference.get() == null;
+        }
+
+        public int hashCode() {
+            return this.mHash;
+        }
+
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            if (this.mResKey != other.mResKey || this.mHash != other.mHash || !this.mConfig.equals(other.mConfig)) {
+                return false;
+            }
+            AssetManager assets = (AssetManager) this.mAssets.get();
+            if (assets == null || assets != other.mAssets.get()) {
+                return false;
+            }
+            WeakReference<Theme> weakReference = this.mTheme;
+            if (weakReference == null || other.mTheme == null) {
+                return weakReference == other.mTheme;
+            }
+            Theme theme = (Theme) weakReference.get();
+            return theme != null && theme.equals(other.mTheme.get());
+        }
+    }
+
+    private static final class SoftEntry extends SoftReference<ConstantState> {
+        final int mBytes;
+        final Key mKey;
+
+        SoftEntry(Key key, ConstantState state, int bytes) {
+            super(state);
+            this.mKey = key;
+            this.mBytes = bytes;
+        }
+    }
+
+    private static final class StrongEntry {
+        final int mBytes;
+        final ConstantState mState;
+
+        StrongEntry(ConstantState state, int bytes) {
+            this.mState = state;
+            this.mBytes = bytes;
+        }
+    }
+
+    private static final class Stripe {
+        int mBytes;
+        long mEvictionCount;
+        long mHitCount;
+        int mMaxBytes;
+        long mMissCount;
+        final HashMap<Key, SoftEntry> mSoft = new HashMap<>();
+        long mSoftHitCount;
+        final LinkedHashMap<Key, StrongEntry> mStrong = new LinkedHashMap<>(16, 0.75f, true);
+
+        Stripe(int maxBytes) {
+            this.mMaxBytes = maxBytes;
+        }
+
+        /* access modifiers changed from: 0000 */
+        public ConstantState get(Key key) {
+            StrongEntry strong = (StrongEntry) this.mStrong.get(key);
+            if (strong != null) {
+                this.mHitCount++;
+                return strong.mState;
+            }
+            SoftEntry soft = (SoftEntry) this.mSoft.remove(key);
+            if (soft != null) {
+                ConstantState state = (ConstantState) soft.get();
+                if (state != null) {
+                    this.mSoftHitCount++;
+                    put(soft.mKey, state, soft.mBytes);
+                    return state;
+                }
+            }
+            this.mMissCount++;
+            return null;
+        }
+
+        /* access modifiers changed from: 0000 */
+        public void put(Key key, ConstantState state, int bytes) {
+            purge();
+            this.mSoft.remove(key);
+            if (bytes > this.mMaxBytes) {
+                StrongEntry previous = (StrongEntry) this.mStrong.remove(key);
+                if (previous != null) {
+                    this.mBytes -= previous.mBytes;
+                }
+                this.mSoft.put(key, new SoftEntry(key, state, bytes));
+                return;
+            }
+            StrongEntry previous2 = (StrongEntry) this.mStrong.put(key, new StrongEntry(state, bytes));
+            if (previous2 != null) {
+                this.mBytes -= previous2.mBytes;
+            }
+            this.mBytes += bytes;
+            trimToSize(this.mMaxBytes);
+        }
+
+        /* access modifiers changed from: 0000 */
+        public void trimToSize(int maxBytes) {
+            Iterator<Entry<Key, StrongEntry>> it = this.mStrong.entrySet().iterator();
+            while (this.mBytes > maxBytes && it.hasNext()) {
+                Entry<Key, StrongEntry> eldest = (Entry) it.next();
+                it.remove();
+                StrongEntry entry = (StrongEntry) eldest.getValue();
+                this.mBytes -= entry.mBytes;
+                this.mSoft.put(eldest.getKey(), new SoftEntry((Key) eldest.getKey(), entry.mState, entry.mBytes));
+                this.mEvictionCount++;
+            }
+        }
+
+        /* access modifiers changed from: 0000 */
+        public void purge() {
+            Iterator<Entry<Key, SoftEntry>> it = this.mSoft.entrySet().iterator();
+            while (it.hasNext()) {
+                Entry<Key, SoftEntry> entry = (Entry) it.next();
+                if (((SoftEntry) entry.getValue()).get() == null || ((Key) entry.getKey()).isCleared()) {
+                    it.remove();
+                }
+            }
+            Iterator<Entry<Key, StrongEntry>> it2 = this.mStrong.entrySet().iterator();
+            while (it2.hasNext()) {
+                Entry<Key, StrongEntry> entry2 = (Entry) it2.next();
+                if (((Key) entry2.getKey()).isCleared()) {
+                    it2.remove();
+                    this.mBytes -= ((StrongEntry) entry2.getValue()).mBytes;
+                }
+            }
+        }
+    }
+
+    SharedDrawableCache() {
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            this.mStripes[i] = new Stripe(DEFAULT_MAX_BYTES / STRIPE_COUNT);
+        }
+    }
+
+    /* access modifiers changed from: 0000 */
+    public Drawable get(Context context, long resKey) {
+        Resources res = context.getResources();
+        ConstantState state = lookup(createKey(context, resKey));
+        if (state != null) {
+            return state.newDrawable(res);
+        }
+        return null;
+    }
+
+    /* access modifiers changed from: 0000 */
+    public boolean put(Context context, long resKey, Drawable drawable) {
+        ConstantState state = drawable.getConstantState();
+        if (state == null) {
+            return false;
+        }
+        Resources res = context.getResources();
+        Key key = new Key(res.getAssets(), new Configuration(res.getConfiguration()), context.getTheme(), resKey);
+        int bytes = estimateBytes(drawable);
+        Stripe stripe = stripeFor(key);
+        synchronized (stripe) {
+            stripe.put(key, state, bytes);
+        }
+        return true;
+    }
+
+    public void setMaxBytes(int maxBytes) {
+        if (maxBytes > 0) {
+            int perStripe = Math.max(1, maxBytes / STRIPE_COUNT);
+            for (Stripe stripe : this.mStripes) {
+                synchronized (stripe) {
+                    stripe.mMaxBytes = perStripe;
+                    stripe.trimToSize(perStripe);
+                }
+            }
+            return;
+        }
+        throw new IllegalArgumentException("maxBytes <= 0");
+    }
+
+    public void purge() {
+        for (Stripe stripe : this.mStripes) {
+            synchronized (stripe) {
+                stripe.purge();
+            }
+        }
+    }
+
+    public void evictAll() {
+        for (Stripe stripe : this.mStripes) {
+            synchronized (stripe) {
+                stripe.trimToSize(-1);
+                stripe.mSoft.clear();
+            }
+        }
+    }
+
+    public int getSizeBytes() {
+        int bytes = 0;
+        for (Stripe stripe : this.mStripes) {
+            synchronized (stripe) {
+                bytes += stripe.mBytes;
+            }
+        }
+        return bytes;
+    }
+
+    public long getHitCount() {
+        long count = 0;
+        for (Stripe stripe : this.mStripes) {
+            synchronized (stripe) {
+                count += stripe.mHitCount;
+            }
+        }
+        return count;
+    }
+
+    public long getSoftHitCount() {
+        long count = 0;
+        for (Stripe stripe : this.mStripes) {
+            synchronized (stripe) {
+                count += stripe.mSoftHitCount;
+            }
+        }
+        return count;
+    }
+
+    public long getMissCount() {
+        long count = 0;
+        for (Stripe stripe : this.mStripes) {
+            synchronized (stripe) {
+                count += stripe.mMissCount;
+            }
+        }
+        return count;
+    }
+
+    public long getEvictionCount() {
+        long count = 0;
+        for (Stripe stripe : this.mStripes) {
+            synchronized (stripe) {
+                count += stripe.mEvictionCount;
+            }
+        }
+        return count;
+    }
+
+    private ConstantState lookup(Key key) {
+        ConstantState state;
+        Stripe stripe = stripeFor(key);
+        synchronized (stripe) {
+            state = stripe.get(key);
+        }
+        return state;
+    }
+
+    private static Key createKey(Context context, long resKey) {
+        Resources res = context.getResources();
+        return new Key(res.getAssets(), res.getConfiguration(), context.getTheme(), resKey);
+    }
+
+    private Stripe stripeFor(Key key) {
+        int h = key.hashCode();
+        return this.mStripes[(h ^ (h >>> 16)) & (STRIPE_COUNT - 1)];
+    }
+
+    private static int estimateBytes(Drawable drawable) {
+        if (drawable instanceof BitmapDrawable) {
+            Bitmap bitmap = ((BitmapDrawable) drawable).getBitmap();
+            if (bitmap != null) {
+                return Math.max(MIN_ENTRY_BYTES, bitmap.getRowBytes() * bitmap.getHeight());
+            }
+        }
+        int width = drawable.getIntrinsicWidth();
+        int height = drawable.getIntrinsicHeight();
+        if (width <= 0 || height <= 0) {
+            return MIN_ENTRY_BYTES;
+        }
+        return Math.max(MIN_ENTRY_BYTES, width * height * 4);
+    }
+}
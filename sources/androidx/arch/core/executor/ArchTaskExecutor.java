@@ -44,6 +44,10 @@ public class ArchTaskExecutor extends TaskExecutor {
         this.mDelegate.postToMainThread(runnable);
     }
 
+    public void postToMainThreadDelayed(Runnable runnable, long delayMillis) {
+        this.mDelegate.postToMainThreadDelayed(runnable, delayMillis);
+    }
+
     public static Executor getMainThreadExecutor() {
         return sMainThreadExecutor;
     }
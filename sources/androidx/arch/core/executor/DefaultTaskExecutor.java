@@ -2,30 +2,25 @@ package androidx.arch.core.executor;
 
 import android.os.Handler;
 import android.os.Looper;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ThreadFactory;
-import java.util.concurrent.atomic.AtomicInteger;
+import androidx.arch.core.executor.PriorityTaskExecutor.Lane;
 
 public class DefaultTaskExecutor extends TaskExecutor {
-    private final ExecutorService mDiskIO = Executors.newFixedThreadPool(2, new ThreadFactory() {
-        private static final String THREAD_NAME_STEM = "arch_disk_io_%d";
-        private final AtomicInteger mThreadId = new AtomicInteger(0);
-
-        public Thread newThread(Runnable r) {
-            Thread t = new Thread(r);
-            t.setName(String.format(THREAD_NAME_STEM, new Object[]{Integer.valueOf(this.mThreadId.getAndIncrement())}));
-            return t;
-        }
-    });
     private final Object mLock = new Object();
     private volatile Handler mMainHandler;
 
     public void executeOnDiskIO(Runnable runnable) {
-        this.mDiskIO.execute(runnable);
+        PriorityTaskExecutor.getInstance().execute(Lane.IO, runnable);
     }
 
     public void postToMainThread(Runnable runnable) {
+        getMainHandler().post(runnable);
+    }
+
+    public void postToMainThreadDelayed(Runnable runnable, long delayMillis) {
+        getMainHandler().postDelayed(runnable, delayMillis);
+    }
+
+    private Handler getMainHandler() {
         if (this.mMainHandler == null) {
             synchronized (this.mLock) {
                 if (this.mMainHandler == null) {
@@ -33,7 +28,7 @@ public class DefaultTaskExecutor extends TaskExecutor {
                 }
             }
         }
-        this.mMainHandler.post(runnable);
+        return this.mMainHandler;
     }
 
     public boolean isMainThread() {
@@ -0,0 +1,196 @@
+package androidx.arch.core.executor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ElasticTaskExecutor extends DefaultTaskExecutor {
+    private static final int DEFAULT_MAX_THREADS = 64;
+    private static final int KEEP_ALIVE_SECONDS = 30;
+    private final ExecutorService mIoExecutor;
+    private final boolean mVirtualThreads;
+
+    public final class TaskGroup {
+        private int mActiveCount;
+        private boolean mCancelled;
+        private Throwable mFailure;
+        private final Object mLock = new Object();
+        private final List<GroupTask<?>> mTasks = new ArrayList();
+
+        TaskGroup() {
+        }
+
+        public <T> Future<T> fork(Callable<T> callable) {
+            if (callable != null) {
+                GroupTask<T> task = new GroupTask<>(this, callable);
+                synchronized (this.mLock) {
+                    if (!this.mCancelled) {
+                        this.mTasks.add(task);
+                        this.mActiveCount++;
+                    } else {
+                        throw new IllegalStateException("TaskGroup has been cancelled");
+                    }
+                }
+                try {
+                    ElasticTaskExecutor.this.mIoExecutor.execute(task);
+                    return task;
+                } catch (RuntimeException e) {
+                    task.cancel(false);
+                    onTaskFinished();
+                    throw e;
+                }
+            }
+            throw new NullPointerException("callable must not be null");
+        }
+
+        public void join() throws InterruptedException, ExecutionException {
+            synchronized (this.mLock) {
+                while (this.mActiveCount > 0) {
+                    this.mLock.wait();
+                }
+                if (this.mFailure != null) {
+                    throw new ExecutionException(this.mFailure);
+                } else if (this.mCancelled) {
+                    throw new CancellationException("TaskGroup has been cancelled");
+                }
+            }
+        }
+
+        public void cancel() {
+            ArrayList<GroupTask<?>> arrayList;
+            synchronized (this.mLock) {
+                this.mCancelled = true;
+                arrayList = new ArrayList<>(this.mTasks);
+            }
+            int size = arrayList.size();
+            for (int i = 0; i < size; i++) {
+                ((GroupTask) arrayList.get(i)).cancel(true);
+            }
+        }
+
+        public boolean isCancelled() {
+            boolean z;
+            synchronized (this.mLock) {
+                z = this.mCancelled;
+            }
+            return z;
+        }
+
+        /* access modifiers changed from: 0000 */
+        public void onTaskFinished() {
+            synchronized (this.mLock) {
+                this.mActiveCount--;
+                if (this.mActiveCount == 0) {
+                    this.mLock.notifyAll();
+                }
+            }
+        }
+
+        /* access modifiers changed from: 0000 */
+        public void onTaskFailed(Throwable failure) {
+            synchronized (this.mLock) {
+                if (this.mFailure == null) {
+                    this.mFailure = failure;
+                }
+            }
+            cancel();
+        }
+    }
+
+    private static final class GroupTask<T> extends FutureTask<T> {
+        private final TaskGroup mGroup;
+
+        GroupTask(TaskGroup group, Callable<T> callable) {
+            super(callable);
+            this.mGroup = group;
+        }
+
+        public void run() {
+            try {
+                super.run();
+            } finally {
+                this.mGroup.onTaskFinished();
+            }
+        }
+
+        /* access modifiers changed from: protected */
+        public void done() {
+            if (!isCancelled()) {
+                try {
+                    get();
+                } catch (ExecutionException e) {
+                    this.mGroup.onTaskFailed(e.getCause());
+                } catch (InterruptedException e2) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    public ElasticTaskExecutor() {
+        this(64);
+    }
+
+    public ElasticTaskExecutor(int maxPlatformThreads) {
+        if (maxPlatformThreads >= 1) {
+            ExecutorService virtualExecutor = newVirtualThreadExecutor();
+            if (virtualExecutor != null) {
+                this.mIoExecutor = virtualExecutor;
+                this.mVirtualThreads = true;
+                return;
+            }
+            ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(maxPlatformThreads, maxPlatformThreads, 30, TimeUnit.SECONDS, new LinkedBlockingQueue(), new ThreadFactory() {
+                private static final String THREAD_NAME_STEM = "arch_elastic_io_%d";
+                private final AtomicInteger mThreadId = new AtomicInteger(0);
+
+                public Thread newThread(Runnable r) {
+                    Thread t = new Thread(r);
+                    t.setName(String.format(THREAD_NAME_STEM, new Object[]{Integer.valueOf(this.mThreadId.getAndIncrement())}));
+                    return t;
+                }
+            });
+            threadPoolExecutor.allowCoreThreadTimeOut(true);
+            this.mIoExecutor = threadPoolExecutor;
+            this.mVirtualThreads = false;
+            return;
+        }
+        throw new IllegalArgumentException("maxPlatformThreads must be >= 1");
+    }
+
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor", new Class[0]).invoke(null, new Object[0]);
+        } catch (Exception e) {
+            return null;
+        } catch (LinkageError e2) {
+            return null;
+        }
+    }
+
+    public boolean usesVirtualThreads() {
+        return this.mVirtualThreads;
+    }
+
+    public TaskGroup newTaskGroup() {
+        return new TaskGroup();
+    }
+
+    public void executeOnDiskIO(Runnable runnable) {
+        this.mIoExecutor.execute(runnable);
+    }
+
+    public void shutdown() {
+        this.mIoExecutor.shutdown();
+    }
+}
@@ -0,0 +1,245 @@
+package androidx.arch.core.executor;
+
+import android.os.Process;
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class PriorityTaskExecutor extends DefaultTaskExecutor {
+    private static volatile PriorityTaskExecutor sInstance;
+    private final LaneState[] mLanes;
+
+    public enum Lane {
+        UI_CRITICAL("ui", 0),
+        IO("io", 10),
+        COMPUTE("compute", 10),
+        IDLE("idle", 19);
+
+        final String mName;
+        final int mThreadPriority;
+
+        private Lane(String name, int threadPriority) {
+            this.mName = name;
+            this.mThreadPriority = threadPriority;
+        }
+    }
+
+    private static final class LaneState implements ThreadFactory {
+        final AtomicLong mCompletedCount = new AtomicLong();
+        private volatile ThreadPoolExecutor mExecutor;
+        final Lane mLane;
+        final AtomicLong mMaxWaitNanos = new AtomicLong();
+        final int mPoolSize;
+        final AtomicLong mSubmittedCount = new AtomicLong();
+        private final AtomicInteger mThreadId = new AtomicInteger(0);
+        final AtomicLong mTotalWaitNanos = new AtomicLong();
+
+        LaneState(Lane lane, int poolSize) {
+            this.mLane = lane;
+            this.mPoolSize = poolSize;
+        }
+
+        /* access modifiers changed from: 0000 */
+        public ThreadPoolExecutor getExecutor() {
+            ThreadPoolExecutor executor = this.mExecutor;
+            if (executor == null) {
+                synchronized (this) {
+                    executor = this.mExecutor;
+                    if (executor == null) {
+                        int i = this.mPoolSize;
+                        executor = new ThreadPoolExecutor(i, i, 10, TimeUnit.SECONDS, new LinkedBlockingQueue(), this);
+                        executor.allowCoreThreadTimeOut(true);
+                        this.mExecutor = executor;
+                    }
+                }
+            }
+            return executor;
+        }
+
+        /* access modifiers changed from: 0000 */
+        public int getQueueDepth() {
+            ThreadPoolExecutor executor = this.mExecutor;
+            if (executor == null) {
+                return 0;
+            }
+            return executor.getQueue().size();
+        }
+
+        /* access modifiers changed from: 0000 */
+        public void execute(Runnable runnable) {
+            if (runnable != null) {
+                this.mSubmittedCount.incrementAndGet();
+                getExecutor().execute(new TimedRunnable(this, runnable));
+                return;
+            }
+            throw new NullPointerException("runnable must not be null");
+        }
+
+        /* access modifiers changed from: 0000 */
+        public void recordWait(long waitNanos) {
+            long max;
+            this.mTotalWaitNanos.addAndGet(waitNanos);
+            do {
+                max = this.mMaxWaitNanos.get();
+                if (waitNanos <= max) {
+                    return;
+                }
+            } while (!this.mMaxWaitNanos.compareAndSet(max, waitNanos));
+        }
+
+        public Thread newThread(final Runnable r) {
+            StringBuilder sb = new StringBuilder();
+            sb.append("shared_");
+            sb.append(this.mLane.mName);
+            sb.append("_");
+            sb.append(this.mThreadId.getAndIncrement());
+            return new Thread(new Runnable() {
+                public void run() {
+                    Process.setThreadPriority(LaneState.this.mLane.mThreadPriority);
+                    r.run();
+                }
+            }, sb.toString());
+        }
+    }
+
+    private static final class TimedRunnable implements Runnable {
+        private final long mEnqueueTimeNanos = System.nanoTime();
+        private final LaneState mLaneState;
+        private final Runnable mRunnable;
+
+        TimedRunnable(LaneState laneState, Runnable runnable) {
+            this.mLaneState = laneState;
+            this.mRunnable = runnable;
+        }
+
+        public void run() {
+            this.mLaneState.recordWait(System.nanoTime() - this.mEnqueueTimeNanos);
+            try {
+                this.mRunnable.run();
+            } finally {
+                this.mLaneState.mCompletedCount.incrementAndGet();
+            }
+        }
+    }
+
+    private static final class SerialExecutor implements Executor {
+        Runnable mActive;
+        private final LaneState mLaneState;
+        private final ArrayDeque<Runnable> mTasks = new ArrayDeque<>();
+
+        SerialExecutor(LaneState laneState) {
+            this.mLaneState = laneState;
+        }
+
+        public synchronized void execute(final Runnable r) {
+            if (r != null) {
+                this.mTasks.offer(new Runnable() {
+                    public void run() {
+                        try {
+                            r.run();
+                        } finally {
+                            SerialExecutor.this.scheduleNext();
+                        }
+                    }
+                });
+                if (this.mActive == null) {
+                    scheduleNext();
+                }
+                return;
+            }
+            throw new NullPointerException("runnable must not be null");
+        }
+
+        /* access modifiers changed from: 0000 */
+        public synchronized void scheduleNext() {
+            Runnable runnable = (Runnable) this.mTasks.poll();
+            this.mActive = runnable;
+            if (runnable != null) {
+                this.mLaneState.execute(this.mActive);
+            }
+        }
+    }
+
+    public PriorityTaskExecutor() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public PriorityTaskExecutor(int cpuCount) {
+        if (cpuCount >= 1) {
+            Lane[] values = Lane.values();
+            this.mLanes = new LaneState[values.length];
+            this.mLanes[Lane.UI_CRITICAL.ordinal()] = new LaneState(Lane.UI_CRITICAL, Math.max(1, cpuCount / 2));
+            this.mLanes[Lane.IO.ordinal()] = new LaneState(Lane.IO, Math.max(2, Math.min(cpuCount * 2, 8)));
+            this.mLanes[Lane.COMPUTE.ordinal()] = new LaneState(Lane.COMPUTE, Math.max(1, cpuCount - 1));
+            this.mLanes[Lane.IDLE.ordinal()] = new LaneState(Lane.IDLE, 1);
+            return;
+        }
+        throw new IllegalArgumentException("cpuCount must be >= 1");
+    }
+
+    public static PriorityTaskExecutor getInstance() {
+        if (sInstance != null) {
+            return sInstance;
+        }
+        synchronized (PriorityTaskExecutor.class) {
+            if (sInstance == null) {
+                sInstance = new PriorityTaskExecutor();
+            }
+        }
+        return sInstance;
+    }
+
+    public void execute(Lane lane, Runnable runnable) {
+        this.mLanes[lane.ordinal()].execute(runnable);
+    }
+
+    public Executor getExecutor(final Lane lane) {
+        return new Executor() {
+            public void execute(Runnable command) {
+                PriorityTaskExecutor.this.execute(lane, command);
+            }
+        };
+    }
+
+    public Executor newSerialExecutor(Lane lane) {
+        return new SerialExecutor(this.mLanes[lane.ordinal()]);
+    }
+
+    public int getPoolSize(Lane lane) {
+        return this.mLanes[lane.ordinal()].mPoolSize;
+    }
+
+    public int getQueueDepth(Lane lane) {
+        return this.mLanes[lane.ordinal()].getQueueDepth();
+    }
+
+    public long getSubmittedTaskCount(Lane lane) {
+        return this.mLanes[lane.ordinal()].mSubmittedCount.get();
+    }
+
+    public long getCompletedTaskCount(Lane lane) {
+        return this.mLanes[lane.ordinal()].mCompletedCount.get();
+    }
+
+    public long getAverageWaitNanos(Lane lane) {
+        LaneState laneState = this.mLanes[lane.ordinal()];
+        long started = laneState.mSubmittedCount.get() - ((long) laneState.getQueueDepth());
+        if (started <= 0) {
+            return 0;
+        }
+        return laneState.mTotalWaitNanos.get() / started;
+    }
+
+    public long getMaxWaitNanos(Lane lane) {
+        return this.mLanes[lane.ordinal()].mMaxWaitNanos.get();
+    }
+
+    public void executeOnDiskIO(Runnable runnable) {
+        execute(Lane.IO, runnable);
+    }
+}
@@ -1,12 +1,26 @@
 package androidx.arch.core.executor;
 
+import android.os.Handler;
+import android.os.Looper;
+
 public abstract class TaskExecutor {
+    private static volatile Handler sDelayHandler;
+    private static final Object sDelayLock = new Object();
+
     public abstract void executeOnDiskIO(Runnable runnable);
 
     public abstract boolean isMainThread();
 
     public abstract void postToMainThread(Runnable runnable);
 
+    public void postToMainThreadDelayed(final Runnable runnable, long delayMillis) {
+        getDelayHandler().postDelayed(new Runnable() {
+            public void run() {
+                TaskExecutor.this.postToMainThread(runnable);
+            }
+        }, delayMillis);
+    }
+
     public void executeOnMainThread(Runnable runnable) {
         if (isMainThread()) {
             runnable.run();
@@ -14,4 +28,15 @@ public abstract class TaskExecutor {
             postToMainThread(runnable);
         }
     }
+
+    private static Handler getDelayHandler() {
+        if (sDelayHandler == null) {
+            synchronized (sDelayLock) {
+                if (sDelayHandler == null) {
+                    sDelayHandler = new Handler(Looper.getMainLooper());
+                }
+            }
+        }
+        return sDelayHandler;
+    }
 }
@@ -1,17 +1,22 @@
 package androidx.arch.core.internal;
 
 import java.util.Iterator;
-import java.util.WeakHashMap;
 
 public class SafeIterableMap<K, V> implements Iterable<java.util.Map.Entry<K, V>> {
     private Entry<K, V> mEnd;
-    private WeakHashMap<SupportRemove<K, V>, Boolean> mIterators = new WeakHashMap<>();
+    private int mNextOrder = 0;
+    int mRemovals = 0;
     private int mSize = 0;
     Entry<K, V> mStart;
 
     static class AscendingIterator<K, V> extends ListIterator<K, V> {
-        AscendingIterator(Entry<K, V> start, Entry<K, V> expectedEnd) {
-            super(start, expectedEnd);
+        AscendingIterator(SafeIterableMap<K, V> map, Entry<K, V> start, Entry<K, V> expectedEnd) {
+            super(map, start, expectedEnd);
+        }
+
+        /* access modifiers changed from: 0000 */
+        public boolean isPast(Entry<K, V> entry, Entry<K, V> end) {
+            return entry.mOrder - end.mOrder > 0;
         }
 
         /* access modifiers changed from: 0000 */
@@ -26,8 +31,13 @@ public class SafeIterableMap<K, V> implements Iterable<java.util.Map.Entry<K, V>
     }
 
     private static class DescendingIterator<K, V> extends ListIterator<K, V> {
-        DescendingIterator(Entry<K, V> start, Entry<K, V> expectedEnd) {
-            super(start, expectedEnd);
+        DescendingIterator(SafeIterableMap<K, V> map, Entry<K, V> start, Entry<K, V> expectedEnd) {
+            super(map, start, expectedEnd);
+        }
+
+        /* access modifiers changed from: 0000 */
+        public boolean isPast(Entry<K, V> entry, Entry<K, V> end) {
+            return entry.mOrder - end.mOrder < 0;
         }
 
         /* access modifiers changed from: 0000 */
@@ -44,7 +54,9 @@ public class SafeIterableMap<K, V> implements Iterable<java.util.Map.Entry<K, V>
     static class Entry<K, V> implements java.util.Map.Entry<K, V> {
         final K mKey;
         Entry<K, V> mNext;
+        int mOrder;
         Entry<K, V> mPrevious;
+        boolean mRemoved;
         final V mValue;
 
         Entry(K key, V value) {
@@ -92,22 +104,32 @@ public class SafeIterableMap<K, V> implements Iterable<java.util.Map.Entry<K, V>
         }
     }
 
-    private class IteratorWithAdditions implements Iterator<java.util.Map.Entry<K, V>>, SupportRemove<K, V> {
+    private class IteratorWithAdditions implements Iterator<java.util.Map.Entry<K, V>> {
         private boolean mBeforeStart = true;
         private Entry<K, V> mCurrent;
+        private int mRemovals;
 
         IteratorWithAdditions() {
+            this.mRemovals = SafeIterableMap.this.mRemovals;
         }
 
-        public void supportRemove(Entry<K, V> entry) {
-            Entry<K, V> entry2 = this.mCurrent;
-            if (entry == entry2) {
-                this.mCurrent = entry2.mPrevious;
-                this.mBeforeStart = this.mCurrent == null;
+        private void syncRemovals() {
+            int i = SafeIterableMap.this.mRemovals;
+            if (this.mRemovals != i) {
+                this.mRemovals = i;
+                Entry<K, V> entry = this.mCurrent;
+                if (entry != null && entry.mRemoved) {
+                    while (entry != null && entry.mRemoved) {
+                        entry = entry.mPrevious;
+                    }
+                    this.mCurrent = entry;
+                    this.mBeforeStart = entry == null;
+                }
             }
         }
 
         public boolean hasNext() {
+            syncRemovals();
             boolean z = true;
             if (this.mBeforeStart) {
                 if (SafeIterableMap.this.mStart == null) {
@@ -123,6 +145,7 @@ public class SafeIterableMap<K, V> implements Iterable<java.util.Map.Entry<K, V>
         }
 
         public java.util.Map.Entry<K, V> next() {
+            syncRemovals();
             if (this.mBeforeStart) {
                 this.mBeforeStart = false;
                 this.mCurrent = SafeIterableMap.this.mStart;
@@ -134,9 +157,11 @@ public class SafeIterableMap<K, V> implements Iterable<java.util.Map.Entry<K, V>
         }
     }
 
-    private static abstract class ListIterator<K, V> implements Iterator<java.util.Map.Entry<K, V>>, SupportRemove<K, V> {
+    private static abstract class ListIterator<K, V> implements Iterator<java.util.Map.Entry<K, V>> {
         Entry<K, V> mExpectedEnd;
+        private final SafeIterableMap<K, V> mMap;
         Entry<K, V> mNext;
+        private int mRemovals;
 
         /* access modifiers changed from: 0000 */
         public abstract Entry<K, V> backward(Entry<K, V> entry);
@@ -144,26 +169,42 @@ public class SafeIterableMap<K, V> implements Iterable<java.util.Map.Entry<K, V>
         /* access modifiers changed from: 0000 */
         public abstract Entry<K, V> forward(Entry<K, V> entry);
 
-        ListIterator(Entry<K, V> start, Entry<K, V> expectedEnd) {
+        /* access modifiers changed from: 0000 */
+        public abstract boolean isPast(Entry<K, V> entry, Entry<K, V> end);
+
+        ListIterator(SafeIterableMap<K, V> map, Entry<K, V> start, Entry<K, V> expectedEnd) {
+            this.mMap = map;
+            this.mRemovals = map.mRemovals;
             this.mExpectedEnd = expectedEnd;
             this.mNext = start;
         }
 
         public boolean hasNext() {
+            syncRemovals();
             return this.mNext != null;
         }
 
-        public void supportRemove(Entry<K, V> entry) {
-            if (this.mExpectedEnd == entry && entry == this.mNext) {
-                this.mNext = null;
-                this.mExpectedEnd = null;
-            }
-            Entry<K, V> entry2 = this.mExpectedEnd;
-            if (entry2 == entry) {
-                this.mExpectedEnd = backward(entry2);
-            }
-            if (this.mNext == entry) {
-                this.mNext = nextNode();
+        private void syncRemovals() {
+            int i = this.mMap.mRemovals;
+            if (this.mRemovals != i) {
+                this.mRemovals = i;
+                Entry<K, V> next = this.mNext;
+                if (next != null) {
+                    Entry<K, V> end = this.mExpectedEnd;
+                    while (end != null && end.mRemoved) {
+                        end = backward(end);
+                    }
+                    while (next != null && next.mRemoved) {
+                        next = forward(next);
+                    }
+                    if (end == null || next == null || isPast(next, end)) {
+                        this.mNext = null;
+                        this.mExpectedEnd = null;
+                        return;
+                    }
+                    this.mNext = next;
+                    this.mExpectedEnd = end;
+                }
             }
         }
 
@@ -177,16 +218,13 @@ public class SafeIterableMap<K, V> implements Iterable<java.util.Map.Entry<K, V>
         }
 
         public java.util.Map.Entry<K, V> next() {
+            syncRemovals();
             java.util.Map.Entry<K, V> result = this.mNext;
             this.mNext = nextNode();
             return result;
         }
     }
 
-    interface SupportRemove<K, V> {
-        void supportRemove(Entry<K, V> entry);
-    }
-
     /* access modifiers changed from: protected */
     public Entry<K, V> get(K k) {
         Entry<K, V> currentNode = this.mStart;
@@ -208,6 +246,9 @@ public class SafeIterableMap<K, V> implements Iterable<java.util.Map.Entry<K, V>
     /* access modifiers changed from: protected */
     public Entry<K, V> put(K key, V v) {
         Entry<K, V> newEntry = new Entry<>(key, v);
+        int i = this.mNextOrder;
+        this.mNextOrder = i + 1;
+        newEntry.mOrder = i;
         this.mSize++;
         Entry<K, V> entry = this.mEnd;
         if (entry == null) {
@@ -227,11 +268,8 @@ public class SafeIterableMap<K, V> implements Iterable<java.util.Map.Entry<K, V>
             return null;
         }
         this.mSize--;
-        if (!this.mIterators.isEmpty()) {
-            for (SupportRemove<K, V> iter : this.mIterators.keySet()) {
-                iter.supportRemove(toRemove);
-            }
-        }
+        this.mRemovals++;
+        toRemove.mRemoved = true;
         if (toRemove.mPrevious != null) {
             toRemove.mPrevious.mNext = toRemove.mNext;
         } else {
@@ -242,8 +280,6 @@ public class SafeIterableMap<K, V> implements Iterable<java.util.Map.Entry<K, V>
         } else {
             this.mEnd = toRemove.mPrevious;
         }
-        toRemove.mNext = null;
-        toRemove.mPrevious = null;
         return toRemove.mValue;
     }
 
@@ -252,21 +288,15 @@ public class SafeIterableMap<K, V> implements Iterable<java.util.Map.Entry<K, V>
     }
 
     public Iterator<java.util.Map.Entry<K, V>> iterator() {
-        ListIterator<K, V> iterator = new AscendingIterator<>(this.mStart, this.mEnd);
-        this.mIterators.put(iterator, Boolean.valueOf(false));
-        return iterator;
+        return new AscendingIterator(this, this.mStart, this.mEnd);
     }
 
     public Iterator<java.util.Map.Entry<K, V>> descendingIterator() {
-        DescendingIterator<K, V> iterator = new DescendingIterator<>(this.mEnd, this.mStart);
-        this.mIterators.put(iterator, Boolean.valueOf(false));
-        return iterator;
+        return new DescendingIterator(this, this.mEnd, this.mStart);
     }
 
     public IteratorWithAdditions iteratorWithAdditions() {
-        IteratorWithAdditions iterator = new IteratorWithAdditions<>();
-        this.mIterators.put(iterator, Boolean.valueOf(false));
-        return iterator;
+        return new IteratorWithAdditions();
     }
 
     public java.util.Map.Entry<K, V> eldest() {
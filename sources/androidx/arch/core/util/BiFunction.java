@@ -0,0 +1,5 @@
+package androidx.arch.core.util;
+
+public interface BiFunction<A, B, O> {
+    O apply(A a, B b);
+}
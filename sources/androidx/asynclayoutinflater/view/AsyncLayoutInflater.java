@@ -6,28 +6,67 @@ import android.os.Handler.Callback;
 import android.os.Message;
 import android.util.AttributeSet;
 import android.util.Log;
+import android.util.SparseArray;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
+import androidx.arch.core.executor.PriorityTaskExecutor;
+import androidx.arch.core.executor.PriorityTaskExecutor.Lane;
 import androidx.core.util.Pools.SynchronizedPool;
-import java.util.concurrent.ArrayBlockingQueue;
+import androidx.lifecycle.GenericLifecycleObserver;
+import androidx.lifecycle.Lifecycle.Event;
+import androidx.lifecycle.Lifecycle.State;
+import androidx.lifecycle.LifecycleOwner;
+import java.util.ArrayList;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicLong;
 
 public final class AsyncLayoutInflater {
+    public static final int PRIORITY_HIGH = 1;
+    public static final int PRIORITY_IDLE = -1;
+    public static final int PRIORITY_NORMAL = 0;
     private static final String TAG = "AsyncLayoutInflater";
     Handler mHandler;
     private Callback mHandlerCallback = new Callback() {
         public boolean handleMessage(Message msg) {
             InflateRequest request = (InflateRequest) msg.obj;
-            if (request.view == null) {
-                request.view = AsyncLayoutInflater.this.mInflater.inflate(request.resid, request.parent, false);
+            if (request.cancelled) {
+                AsyncLayoutInflater.this.mInflateWorker.releaseRequest(request);
+                return true;
+            } else if (request.preinflate) {
+                if (request.view != null) {
+                    AsyncLayoutInflater.this.addToWarmPool(request.resid, request.parent, request.view);
+                }
+                AsyncLayoutInflater.this.mInflateWorker.releaseRequest(request);
+                return true;
+            } else {
+                if (request.view == null) {
+                    request.view = AsyncLayoutInflater.this.mInflater.inflate(request.resid, request.parent, false);
+                }
+                if (request.ownerObserver != null) {
+                    request.ownerObserver.detach();
+                }
+                request.callback.onInflateFinished(request.view, request.resid, request.parent);
+                AsyncLayoutInflater.this.mInflateWorker.releaseRequest(request);
+                return true;
             }
-            request.callback.onInflateFinished(request.view, request.resid, request.parent);
-            AsyncLayoutInflater.this.mInflateThread.releaseRequest(request);
-            return true;
         }
     };
-    InflateThread mInflateThread;
+    InflateWorker mInflateWorker;
     LayoutInflater mInflater;
+    private final AtomicLong mPoolHitCount = new AtomicLong();
+    private final AtomicLong mPoolMissCount = new AtomicLong();
+    private final SparseArray<ArrayList<WarmView>> mWarmPool = new SparseArray<>();
+
+    private static class WarmView {
+        final Class<?> parentClass;
+        final View view;
+
+        WarmView(Class<?> parentClass2, View view2) {
+            this.parentClass = parentClass2;
+            this.view = view2;
+        }
+    }
 
     private static class BasicInflater extends LayoutInflater {
         private static final String[] sClassPrefixList = {"android.widget.", "android.webkit.", "android.app."};
@@ -59,52 +98,120 @@ public final class AsyncLayoutInflater {
         }
     }
 
-    private static class InflateRequest {
+    private static class InflateRequest implements Comparable<InflateRequest> {
         OnInflateFinishedListener callback;
+        volatile boolean cancelled;
         AsyncLayoutInflater inflater;
+        OwnerObserver ownerObserver;
         ViewGroup parent;
+        boolean preinflate;
+        int priority;
         int resid;
+        long sequence;
         View view;
 
         InflateRequest() {
         }
+
+        public int compareTo(InflateRequest other) {
+            int i = this.priority;
+            int i2 = other.priority;
+            if (i != i2) {
+                return i > i2 ? -1 : 1;
+            }
+            long j = this.sequence;
+            long j2 = other.sequence;
+            if (j < j2) {
+                return -1;
+            }
+            return j == j2 ? 0 : 1;
+        }
     }
 
-    private static class InflateThread extends Thread {
-        private static final InflateThread sInstance = new InflateThread();
-        private ArrayBlockingQueue<InflateRequest> mQueue = new ArrayBlockingQueue<>(10);
-        private SynchronizedPool<InflateRequest> mRequestPool = new SynchronizedPool<>(10);
+    private class OwnerObserver implements GenericLifecycleObserver {
+        final LifecycleOwner mOwner;
+        final InflateRequest mRequest;
 
-        private InflateThread() {
+        OwnerObserver(LifecycleOwner owner, InflateRequest request) {
+            this.mOwner = owner;
+            this.mRequest = request;
+        }
+
+        public void onStateChanged(LifecycleOwner source, Event event) {
+            if (this.mOwner.getLifecycle().getCurrentState() == State.DESTROYED) {
+                detach();
+                AsyncLayoutInflater.this.mInflateWorker.cancel(this.mRequest);
+            }
         }
 
-        static {
-            sInstance.start();
+        /* access modifiers changed from: 0000 */
+        public void detach() {
+            this.mRequest.ownerObserver = null;
+            this.mOwner.getLifecycle().removeObserver(this);
+        }
+    }
+
+    private static class InflateWorker {
+        private static final InflateWorker sInstance = new InflateWorker();
+        private boolean mDraining;
+        private final Runnable mDrainRunnable = new Runnable() {
+            public void run() {
+                InflateWorker.this.drain(InflateWorker.this.mQueue);
+            }
+        };
+        private boolean mIdleDraining;
+        private final Runnable mIdleDrainRunnable = new Runnable() {
+            public void run() {
+                InflateWorker.this.drain(InflateWorker.this.mIdleQueue);
+            }
+        };
+        /* access modifiers changed from: private */
+        public final PriorityQueue<InflateRequest> mIdleQueue = new PriorityQueue<>();
+        final AtomicLong mInflateCount = new AtomicLong();
+        final AtomicLong mInflateNanos = new AtomicLong();
+        /* access modifiers changed from: private */
+        public final PriorityQueue<InflateRequest> mQueue = new PriorityQueue<>();
+        private SynchronizedPool<InflateRequest> mRequestPool = new SynchronizedPool<>(10);
+        private long mSequence;
+
+        private InflateWorker() {
         }
 
-        public static InflateThread getInstance() {
+        public static InflateWorker getInstance() {
             return sInstance;
         }
 
-        public void runInner() {
-            String str = AsyncLayoutInflater.TAG;
-            try {
-                InflateRequest request = (InflateRequest) this.mQueue.take();
-                try {
-                    request.view = request.inflater.mInflater.inflate(request.resid, request.parent, false);
-                } catch (RuntimeException ex) {
-                    Log.w(str, "Failed to inflate resource in the background! Retrying on the UI thread", ex);
+        /* access modifiers changed from: 0000 */
+        public void drain(PriorityQueue<InflateRequest> queue) {
+            InflateRequest request;
+            while (true) {
+                synchronized (this) {
+                    request = (InflateRequest) queue.poll();
+                    if (request == null) {
+                        if (queue == this.mIdleQueue) {
+                            this.mIdleDraining = false;
+                        } else {
+                            this.mDraining = false;
+                        }
+                        return;
+                    }
                 }
-                Message.obtain(request.inflater.mHandler, 0, request).sendToTarget();
-            } catch (InterruptedException ex2) {
-                Log.w(str, ex2);
+                runInner(request);
             }
         }
 
-        public void run() {
-            while (true) {
-                runInner();
+        public void runInner(InflateRequest request) {
+            if (!request.cancelled) {
+                long start = System.nanoTime();
+                try {
+                    request.view = request.inflater.mInflater.inflate(request.resid, request.parent, false);
+                } catch (RuntimeException ex) {
+                    Log.w(AsyncLayoutInflater.TAG, "Failed to inflate resource in the background! Retrying on the UI thread", ex);
+                }
+                this.mInflateNanos.addAndGet(System.nanoTime() - start);
+                this.mInflateCount.incrementAndGet();
             }
+            Message.obtain(request.inflater.mHandler, 0, request).sendToTarget();
         }
 
         public InflateRequest obtainRequest() {
@@ -117,18 +224,53 @@ public final class AsyncLayoutInflater {
 
         public void releaseRequest(InflateRequest obj) {
             obj.callback = null;
+            obj.cancelled = false;
             obj.inflater = null;
+            obj.ownerObserver = null;
             obj.parent = null;
+            obj.preinflate = false;
+            obj.priority = 0;
             obj.resid = 0;
+            obj.sequence = 0;
             obj.view = null;
             this.mRequestPool.release(obj);
         }
 
         public void enqueue(InflateRequest request) {
-            try {
-                this.mQueue.put(request);
-            } catch (InterruptedException e) {
-                throw new RuntimeException("Failed to enqueue async inflate request", e);
+            boolean schedule;
+            boolean idle = request.priority < 0;
+            synchronized (this) {
+                long j = this.mSequence;
+                this.mSequence = 1 + j;
+                request.sequence = j;
+                if (idle) {
+                    this.mIdleQueue.offer(request);
+                    schedule = !this.mIdleDraining;
+                    this.mIdleDraining = true;
+                } else {
+                    this.mQueue.offer(request);
+                    schedule = !this.mDraining;
+                    this.mDraining = true;
+                }
+            }
+            if (!schedule) {
+                return;
+            }
+            if (idle) {
+                PriorityTaskExecutor.getInstance().execute(Lane.IDLE, this.mIdleDrainRunnable);
+            } else {
+                PriorityTaskExecutor.getInstance().execute(Lane.UI_CRITICAL, this.mDrainRunnable);
+            }
+        }
+
+        public void cancel(InflateRequest request) {
+            boolean removed;
+            request.cancelled = true;
+            synchronized (this) {
+                removed = this.mQueue.remove(request) || this.mIdleQueue.remove(request);
+            }
+            if (removed) {
+                releaseRequest(request);
             }
         }
     }
@@ -140,19 +282,114 @@ public final class AsyncLayoutInflater {
     public AsyncLayoutInflater(Context context) {
         this.mInflater = new BasicInflater(context);
         this.mHandler = new Handler(this.mHandlerCallback);
-        this.mInflateThread = InflateThread.getInstance();
+        this.mInflateWorker = InflateWorker.getInstance();
     }
 
     public void inflate(int resid, ViewGroup parent, OnInflateFinishedListener callback) {
+        inflate(resid, parent, 0, null, callback);
+    }
+
+    public void inflate(int resid, ViewGroup parent, int priority, LifecycleOwner owner, OnInflateFinishedListener callback) {
         if (callback != null) {
-            InflateRequest request = this.mInflateThread.obtainRequest();
+            if (owner == null || owner.getLifecycle().getCurrentState() != State.DESTROYED) {
+                InflateRequest request = this.mInflateWorker.obtainRequest();
+                request.inflater = this;
+                request.resid = resid;
+                request.parent = parent;
+                request.callback = callback;
+                request.priority = priority;
+                if (owner != null) {
+                    request.ownerObserver = new OwnerObserver(owner, request);
+                    owner.getLifecycle().addObserver(request.ownerObserver);
+                }
+                View pooled = takeFromWarmPool(resid, parent);
+                if (pooled != null) {
+                    this.mPoolHitCount.incrementAndGet();
+                    request.view = pooled;
+                    Message.obtain(this.mHandler, 0, request).sendToTarget();
+                    return;
+                }
+                this.mPoolMissCount.incrementAndGet();
+                this.mInflateWorker.enqueue(request);
+                return;
+            }
+            return;
+        }
+        throw new NullPointerException("callback argument may not be null!");
+    }
+
+    public void preinflate(int resid, ViewGroup parent, int count) {
+        for (int i = 0; i < count; i++) {
+            InflateRequest request = this.mInflateWorker.obtainRequest();
             request.inflater = this;
             request.resid = resid;
             request.parent = parent;
-            request.callback = callback;
-            this.mInflateThread.enqueue(request);
-            return;
+            request.priority = -1;
+            request.preinflate = true;
+            this.mInflateWorker.enqueue(request);
         }
-        throw new NullPointerException("callback argument may not be null!");
+    }
+
+    public void clearWarmPool() {
+        synchronized (this.mWarmPool) {
+            this.mWarmPool.clear();
+        }
+    }
+
+    /* access modifiers changed from: 0000 */
+    public void addToWarmPool(int resid, ViewGroup parent, View view) {
+        synchronized (this.mWarmPool) {
+            ArrayList<WarmView> views = (ArrayList) this.mWarmPool.get(resid);
+            if (views == null) {
+                views = new ArrayList<>();
+                this.mWarmPool.put(resid, views);
+            }
+            views.add(new WarmView(parent != null ? parent.getClass() : null, view));
+        }
+    }
+
+    private View takeFromWarmPool(int resid, ViewGroup parent) {
+        Class<?> parentClass = parent != null ? parent.getClass() : null;
+        synchronized (this.mWarmPool) {
+            ArrayList<WarmView> views = (ArrayList) this.mWarmPool.get(resid);
+            if (views == null) {
+                return null;
+            }
+            for (int i = views.size() - 1; i >= 0; i--) {
+                if (((WarmView) views.get(i)).parentClass == parentClass) {
+                    return ((WarmView) views.remove(i)).view;
+                }
+            }
+            return null;
+        }
+    }
+
+    public int getWarmPoolSize(int resid) {
+        int size;
+        synchronized (this.mWarmPool) {
+            ArrayList<WarmView> views = (ArrayList) this.mWarmPool.get(resid);
+            size = views != null ? views.size() : 0;
+        }
+        return size;
+    }
+
+    public long getPoolHitCount() {
+        return this.mPoolHitCount.get();
+    }
+
+    public long getPoolMissCount() {
+        return this.mPoolMissCount.get();
+    }
+
+    public long getInflateCount() {
+        return this.mInflateWorker.mInflateCount.get();
+    }
+
+    public long getAverageInflateNanos() {
+        long count = this.mInflateWorker.mInflateCount.get();
+        if (count == 0) {
+            return 0;
+        }
+        return this.mInflateWorker.mInflateNanos.get() / count;
     }
 }
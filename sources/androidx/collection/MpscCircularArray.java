@@ -0,0 +1,117 @@
+package androidx.collection;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public final class MpscCircularArray<E> {
+    private final int mCapacityBitmask;
+    private final E[] mElements;
+    private final RingSequence mHead = new RingSequence();
+    private final AtomicLongArray mSequences;
+    private final RingSequence mTail = new RingSequence();
+
+    public MpscCircularArray() {
+        this(1024);
+    }
+
+    public MpscCircularArray(int minCapacity) {
+        int arrayCapacity = RingSequence.capacityFor(minCapacity);
+        this.mCapacityBitmask = arrayCapacity - 1;
+        this.mElements = (E[]) new Object[arrayCapacity];
+        this.mSequences = new AtomicLongArray(arrayCapacity);
+        for (int i = 0; i < arrayCapacity; i++) {
+            this.mSequences.lazySet(i, (long) i);
+        }
+    }
+
+    public boolean offer(E e) {
+        if (e != null) {
+            RingSequence ringSequence = this.mTail;
+            while (true) {
+                long tail = ringSequence.get();
+                int index = ((int) tail) & this.mCapacityBitmask;
+                long dif = this.mSequences.get(index) - tail;
+                if (dif == 0) {
+                    if (ringSequence.compareAndSet(tail, 1 + tail)) {
+                        this.mElements[index] = e;
+                        this.mSequences.lazySet(index, 1 + tail);
+                        return true;
+                    }
+                } else if (dif < 0) {
+                    return false;
+                }
+            }
+        } else {
+            throw new NullPointerException("element must not be null");
+        }
+    }
+
+    public E poll() {
+        RingSequence ringSequence = this.mHead;
+        long head = ringSequence.get();
+        int index = ((int) head) & this.mCapacityBitmask;
+        if (this.mSequences.get(index) != 1 + head) {
+            return null;
+        }
+        E[] eArr = this.mElements;
+        E result = eArr[index];
+        eArr[index] = null;
+        this.mSequences.lazySet(index, ((long) this.mCapacityBitmask) + head + 1);
+        ringSequence.lazySet(1 + head);
+        return result;
+    }
+
+    public E peek() {
+        long head = this.mHead.get();
+        int index = ((int) head) & this.mCapacityBitmask;
+        if (this.mSequences.get(index) != 1 + head) {
+            return null;
+        }
+        return this.mElements[index];
+    }
+
+    public int drainTo(CircularArray<E> target, int maxElements) {
+        if (target == null) {
+            throw new NullPointerException("target must not be null");
+        }
+        RingSequence ringSequence = this.mHead;
+        long head = ringSequence.get();
+        E[] eArr = this.mElements;
+        int count = 0;
+        while (count < maxElements) {
+            long position = ((long) count) + head;
+            int index = ((int) position) & this.mCapacityBitmask;
+            if (this.mSequences.get(index) != 1 + position) {
+                break;
+            }
+            target.addLast(eArr[index]);
+            eArr[index] = null;
+            this.mSequences.lazySet(index, ((long) this.mCapacityBitmask) + position + 1);
+            count++;
+        }
+        if (count > 0) {
+            ringSequence.lazySet(((long) count) + head);
+        }
+        return count;
+    }
+
+    public int size() {
+        long after = this.mHead.get();
+        while (true) {
+            long before = after;
+            long tail = this.mTail.get();
+            after = this.mHead.get();
+            if (before == after) {
+                return (int) Math.min(tail - after, (long) (this.mCapacityBitmask + 1));
+            }
+        }
+    }
+
+    public boolean isEmpty() {
+        long head = this.mHead.get();
+        return this.mSequences.get(((int) head) & this.mCapacityBitmask) != 1 + head;
+    }
+
+    public int capacity() {
+        return this.mCapacityBitmask + 1;
+    }
+}
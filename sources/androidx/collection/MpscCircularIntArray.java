@@ -0,0 +1,132 @@
+package androidx.collection;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public final class MpscCircularIntArray {
+    private final int mCapacityBitmask;
+    private final int[] mElements;
+    private final RingSequence mHead = new RingSequence();
+    private final AtomicLongArray mSequences;
+    private final RingSequence mTail = new RingSequence();
+
+    public MpscCircularIntArray() {
+        this(1024);
+    }
+
+    public MpscCircularIntArray(int minCapacity) {
+        int arrayCapacity = RingSequence.capacityFor(minCapacity);
+        this.mCapacityBitmask = arrayCapacity - 1;
+        this.mElements = new int[arrayCapacity];
+        this.mSequences = new AtomicLongArray(arrayCapacity);
+        for (int i = 0; i < arrayCapacity; i++) {
+            this.mSequences.lazySet(i, (long) i);
+        }
+    }
+
+    public boolean offer(int e) {
+        RingSequence ringSequence = this.mTail;
+        while (true) {
+            long tail = ringSequence.get();
+            int index = ((int) tail) & this.mCapacityBitmask;
+            long dif = this.mSequences.get(index) - tail;
+            if (dif == 0) {
+                if (ringSequence.compareAndSet(tail, 1 + tail)) {
+                    this.mElements[index] = e;
+                    this.mSequences.lazySet(index, 1 + tail);
+                    return true;
+                }
+            } else if (dif < 0) {
+                return false;
+            }
+        }
+    }
+
+    public int poll() {
+        RingSequence ringSequence = this.mHead;
+        long head = ringSequence.get();
+        int index = ((int) head) & this.mCapacityBitmask;
+        if (this.mSequences.get(index) == 1 + head) {
+            int result = this.mElements[index];
+            this.mSequences.lazySet(index, ((long) this.mCapacityBitmask) + head + 1);
+            ringSequence.lazySet(1 + head);
+            return result;
+        }
+        throw new ArrayIndexOutOfBoundsException();
+    }
+
+    public int peek() {
+        long head = this.mHead.get();
+        int index = ((int) head) & this.mCapacityBitmask;
+        if (this.mSequences.get(index) == 1 + head) {
+            return this.mElements[index];
+        }
+        throw new ArrayIndexOutOfBoundsException();
+    }
+
+    public int drainTo(int[] target, int offset, int maxElements) {
+        if (offset < 0 || maxElements < 0 || offset + maxElements > target.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+        RingSequence ringSequence = this.mHead;
+        long head = ringSequence.get();
+        int count = 0;
+        while (count < maxElements) {
+            long position = ((long) count) + head;
+            int index = ((int) position) & this.mCapacityBitmask;
+            if (this.mSequences.get(index) != 1 + position) {
+                break;
+            }
+            target[offset + count] = this.mElements[index];
+            this.mSequences.lazySet(index, ((long) this.mCapacityBitmask) + position + 1);
+            count++;
+        }
+        if (count > 0) {
+            ringSequence.lazySet(((long) count) + head);
+        }
+        return count;
+    }
+
+    public int drainTo(CircularIntArray target, int maxElements) {
+        if (target == null) {
+            throw new NullPointerException("target must not be null");
+        }
+        RingSequence ringSequence = this.mHead;
+        long head = ringSequence.get();
+        int count = 0;
+        while (count < maxElements) {
+            long position = ((long) count) + head;
+            int index = ((int) position) & this.mCapacityBitmask;
+            if (this.mSequences.get(index) != 1 + position) {
+                break;
+            }
+            target.addLast(this.mElements[index]);
+            this.mSequences.lazySet(index, ((long) this.mCapacityBitmask) + position + 1);
+            count++;
+        }
+        if (count > 0) {
+            ringSequence.lazySet(((long) count) + head);
+        }
+        return count;
+    }
+
+    public int size() {
+        long after = this.mHead.get();
+        while (true) {
+            long before = after;
+            long tail = this.mTail.get();
+            after = this.mHead.get();
+            if (before == after) {
+                return (int) Math.min(tail - after, (long) (this.mCapacityBitmask + 1));
+            }
+        }
+    }
+
+    public boolean isEmpty() {
+        long head = this.mHead.get();
+        return this.mSequences.get(((int) head) & this.mCapacityBitmask) != 1 + head;
+    }
+
+    public int capacity() {
+        return this.mCapacityBitmask + 1;
+    }
+}
@@ -0,0 +1,53 @@
+package androidx.collection;
+
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+final class RingSequence {
+    private static final AtomicLongFieldUpdater<RingSequence> VALUE_UPDATER = AtomicLongFieldUpdater.newUpdater(RingSequence.class, "mValue");
+    long mCache;
+    long mPad1;
+    long mPad2;
+    long mPad3;
+    long mPad4;
+    long mPad5;
+    long mPad6;
+    long mPad7;
+    private volatile long mValue;
+    long mPad9;
+    long mPad10;
+    long mPad11;
+    long mPad12;
+    long mPad13;
+    long mPad14;
+    long mPad15;
+
+    RingSequence() {
+    }
+
+    /* access modifiers changed from: package-private */
+    public long get() {
+        return this.mValue;
+    }
+
+    /* access modifiers changed from: package-private */
+    public void lazySet(long value) {
+        VALUE_UPDATER.lazySet(this, value);
+    }
+
+    /* access modifiers changed from: package-private */
+    public boolean compareAndSet(long expect, long update) {
+        return VALUE_UPDATER.compareAndSet(this, expect, update);
+    }
+
+    static int capacityFor(int minCapacity) {
+        if (minCapacity < 1) {
+            throw new IllegalArgumentException("capacity must be >= 1");
+        } else if (minCapacity > 1073741824) {
+            throw new IllegalArgumentException("capacity must be <= 2^30");
+        } else if (Integer.bitCount(minCapacity) != 1) {
+            return Integer.highestOneBit(minCapacity - 1) << 1;
+        } else {
+            return minCapacity;
+        }
+    }
+}
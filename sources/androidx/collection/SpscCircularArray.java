@@ -0,0 +1,105 @@
+package androidx.collection;
+
+public final class SpscCircularArray<E> {
+    private final int mCapacityBitmask;
+    private final E[] mElements;
+    private final RingSequence mHead = new RingSequence();
+    private final RingSequence mTail = new RingSequence();
+
+    public SpscCircularArray() {
+        this(1024);
+    }
+
+    public SpscCircularArray(int minCapacity) {
+        int arrayCapacity = RingSequence.capacityFor(minCapacity);
+        this.mCapacityBitmask = arrayCapacity - 1;
+        this.mElements = (E[]) new Object[arrayCapacity];
+    }
+
+    public boolean offer(E e) {
+        if (e != null) {
+            RingSequence ringSequence = this.mTail;
+            long tail = ringSequence.get();
+            if (tail - ringSequence.mCache > ((long) this.mCapacityBitmask)) {
+                ringSequence.mCache = this.mHead.get();
+                if (tail - ringSequence.mCache > ((long) this.mCapacityBitmask)) {
+                    return false;
+                }
+            }
+            this.mElements[((int) tail) & this.mCapacityBitmask] = e;
+            ringSequence.lazySet(1 + tail);
+            return true;
+        }
+        throw new NullPointerException("element must not be null");
+    }
+
+    public E poll() {
+        RingSequence ringSequence = this.mHead;
+        long head = ringSequence.get();
+        if (head >= ringSequence.mCache) {
+            ringSequence.mCache = this.mTail.get();
+            if (head >= ringSequence.mCache) {
+                return null;
+            }
+        }
+        int index = ((int) head) & this.mCapacityBitmask;
+        E[] eArr = this.mElements;
+        E result = eArr[index];
+        eArr[index] = null;
+        ringSequence.lazySet(1 + head);
+        return result;
+    }
+
+    public E peek() {
+        long head = this.mHead.get();
+        if (head >= this.mTail.get()) {
+            return null;
+        }
+        return this.mElements[((int) head) & this.mCapacityBitmask];
+    }
+
+    public int drainTo(CircularArray<E> target, int maxElements) {
+        if (target == null) {
+            throw new NullPointerException("target must not be null");
+        } else if (maxElements <= 0) {
+            return 0;
+        } else {
+            RingSequence ringSequence = this.mHead;
+            long head = ringSequence.get();
+            long available = this.mTail.get() - head;
+            ringSequence.mCache = head + available;
+            int count = (int) Math.min(available, (long) maxElements);
+            if (count == 0) {
+                return 0;
+            }
+            E[] eArr = this.mElements;
+            for (int i = 0; i < count; i++) {
+                int index = ((int) (((long) i) + head)) & this.mCapacityBitmask;
+                target.addLast(eArr[index]);
+                eArr[index] = null;
+            }
+            ringSequence.lazySet(((long) count) + head);
+            return count;
+        }
+    }
+
+    public int size() {
+        long after = this.mHead.get();
+        while (true) {
+            long before = after;
+            long tail = this.mTail.get();
+            after = this.mHead.get();
+            if (before == after) {
+                return (int) Math.min(tail - after, (long) (this.mCapacityBitmask + 1));
+            }
+        }
+    }
+
+    public boolean isEmpty() {
+        return this.mHead.get() == this.mTail.get();
+    }
+
+    public int capacity() {
+        return this.mCapacityBitmask + 1;
+    }
+}
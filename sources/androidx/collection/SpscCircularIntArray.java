@@ -0,0 +1,119 @@
+package androidx.collection;
+
+public final class SpscCircularIntArray {
+    private final int mCapacityBitmask;
+    private final int[] mElements;
+    private final RingSequence mHead = new RingSequence();
+    private final RingSequence mTail = new RingSequence();
+
+    public SpscCircularIntArray() {
+        this(1024);
+    }
+
+    public SpscCircularIntArray(int minCapacity) {
+        int arrayCapacity = RingSequence.capacityFor(minCapacity);
+        this.mCapacityBitmask = arrayCapacity - 1;
+        this.mElements = new int[arrayCapacity];
+    }
+
+    public boolean offer(int e) {
+        RingSequence ringSequence = this.mTail;
+        long tail = ringSequence.get();
+        if (tail - ringSequence.mCache > ((long) this.mCapacityBitmask)) {
+            ringSequence.mCache = this.mHead.get();
+            if (tail - ringSequence.mCache > ((long) this.mCapacityBitmask)) {
+                return false;
+            }
+        }
+        this.mElements[((int) tail) & this.mCapacityBitmask] = e;
+        ringSequence.lazySet(1 + tail);
+        return true;
+    }
+
+    public int poll() {
+        RingSequence ringSequence = this.mHead;
+        long head = ringSequence.get();
+        if (head >= ringSequence.mCache) {
+            ringSequence.mCache = this.mTail.get();
+            if (head >= ringSequence.mCache) {
+                throw new ArrayIndexOutOfBoundsException();
+            }
+        }
+        int result = this.mElements[((int) head) & this.mCapacityBitmask];
+        ringSequence.lazySet(1 + head);
+        return result;
+    }
+
+    public int peek() {
+        long head = this.mHead.get();
+        if (head < this.mTail.get()) {
+            return this.mElements[((int) head) & this.mCapacityBitmask];
+        }
+        throw new ArrayIndexOutOfBoundsException();
+    }
+
+    public int drainTo(int[] target, int offset, int maxElements) {
+        if (offset < 0 || maxElements < 0 || offset + maxElements > target.length) {
+            throw new ArrayIndexOutOfBoundsException();
+        }
+        RingSequence ringSequence = this.mHead;
+        long head = ringSequence.get();
+        long available = this.mTail.get() - head;
+        ringSequence.mCache = head + available;
+        int count = (int) Math.min(available, (long) maxElements);
+        if (count == 0) {
+            return 0;
+        }
+        int start = ((int) head) & this.mCapacityBitmask;
+        int first = Math.min(count, (this.mCapacityBitmask + 1) - start);
+        System.arraycopy(this.mElements, start, target, offset, first);
+        if (first < count) {
+            System.arraycopy(this.mElements, 0, target, offset + first, count - first);
+        }
+        ringSequence.lazySet(((long) count) + head);
+        return count;
+    }
+
+    public int drainTo(CircularIntArray target, int maxElements) {
+        if (target == null) {
+            throw new NullPointerException("target must not be null");
+        } else if (maxElements <= 0) {
+            return 0;
+        } else {
+            RingSequence ringSequence = this.mHead;
+            long head = ringSequence.get();
+            long available = this.mTail.get() - head;
+            ringSequence.mCache = head + available;
+            int count = (int) Math.min(available, (long) maxElements);
+            if (count == 0) {
+                return 0;
+            }
+            int[] iArr = this.mElements;
+            for (int i = 0; i < count; i++) {
+                target.addLast(iArr[((int) (((long) i) + head)) & this.mCapacityBitmask]);
+            }
+            ringSequence.lazySet(((long) count) + head);
+            return count;
+        }
+    }
+
+    public int size() {
+        long after = this.mHead.get();
+        while (true) {
+            long before = after;
+            long tail = this.mTail.get();
+            after = this.mHead.get();
+            if (before == after) {
+                return (int) Math.min(tail - after, (long) (this.mCapacityBitmask + 1));
+            }
+        }
+    }
+
+    public boolean isEmpty() {
+        return this.mHead.get() == this.mTail.get();
+    }
+
+    public int capacity() {
+        return this.mCapacityBitmask + 1;
+    }
+}
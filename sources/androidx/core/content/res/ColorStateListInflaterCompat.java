@@ -19,6 +19,17 @@ public final class ColorStateListInflaterCompat {
     private ColorStateListInflaterCompat() {
     }
 
+    public static ColorStateList inflate(Resources resources, int resId, Theme theme) throws XmlPullParserException, IOException {
+        ComplexColorCache cache = ComplexColorCache.getInstance();
+        Object cached = cache.get(resources, resId, theme);
+        if (cached instanceof ColorStateList) {
+            return (ColorStateList) cached;
+        }
+        ColorStateList colorStateList = createFromXml(resources, resources.getXml(resId), theme);
+        cache.put(resources, resId, theme, colorStateList);
+        return colorStateList;
+    }
+
     public static ColorStateList createFromXml(Resources r, XmlPullParser parser, Theme theme) throws XmlPullParserException, IOException {
         int type;
         AttributeSet attrs = Xml.asAttributeSet(parser);
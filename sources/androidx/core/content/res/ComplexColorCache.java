@@ -0,0 +1,163 @@
+package androidx.core.content.res;
+
+import android.content.res.AssetManager;
+import android.content.res.Configuration;
+import android.content.res.Resources;
+import android.content.res.Resources.Theme;
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map.Entry;
+
+public final class ComplexColorCache {
+    private static final int DEFAULT_MAX_SIZE = 256;
+    private static final ComplexColorCache sInstance = new ComplexColorCache();
+    private final LinkedHashMap<Key, Object> mEntries = new LinkedHashMap<>(16, 0.75f, true);
+    private long mEvictionCount;
+    private long mHitCount;
+    private int mMaxSize = DEFAULT_MAX_SIZE;
+    private long mMissCount;
+
+    private static final class Key {
+        final WeakReference<AssetManager> mAssets;
+        final Configuration mConfig;
+        private final int mHash;
+        final int mResId;
+        final WeakReference<Theme> mTheme;
+
+        Key(AssetManager assets, Configuration config, Theme theme, int resId) {
+            this.mAssets = new WeakReference<>(assets);
+            this.mConfig = config;
+            this.mTheme = theme != null ? new WeakReference<>(theme) : null;
+            this.mResId = resId;
+            this.mHash = (((((resId * 31) + config.hashCode()) * 31) + System.identityHashCode(assets)) * 31) + (theme != null ? theme.hashCode() : 0);
+        }
+
+        /* access modifiers changed from: 0000 */
+        public boolean isCleared() {
+            if (this.mAssets.get() == null) {
+                return true;
+            }
+            WeakReference<Theme> weakReference = this.mTheme;
+            return weakReference != null && weakReference.get() == null;
+        }
+
+        public int hashCode() {
+            return this.mHash;
+        }
+
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            if (this.mResId != other.mResId || this.mHash != other.mHash || !this.mConfig.equals(other.mConfig)) {
+                return false;
+            }
+            AssetManager assets = (AssetManager) this.mAssets.get();
+            if (assets == null || assets != other.mAssets.get()) {
+                return false;
+            }
+            WeakReference<Theme> weakReference = this.mTheme;
+            if (weakReference == null || other.mTheme == null) {
+                return weakReference == other.mTheme;
+            }
+            Theme theme = (Theme) weakReference.get();
+            return theme != null && theme.equals(other.mTheme.get());
+        }
+    }
+
+    private ComplexColorCache() {
+    }
+
+    public static ComplexColorCache getInstance() {
+        return sInstance;
+    }
+
+    /* access modifiers changed from: 0000 */
+    public synchronized Object get(Resources res, int resId, Theme theme) {
+        Object value = this.mEntries.get(new Key(res.getAssets(), res.getConfiguration(), theme, resId));
+        if (value != null) {
+            this.mHitCount++;
+            return value;
+        }
+        this.mMissCount++;
+        return null;
+    }
+
+    /* access modifiers changed from: 0000 */
+    public synchronized void put(Resources res, int resId, Theme theme, Object value) {
+        purgeCleared();
+        this.mEntries.put(new Key(res.getAssets(), new Configuration(res.getConfiguration()), theme, resId), value);
+        trimToSize(this.mMaxSize);
+    }
+
+    public synchronized void onConfigurationChanged(Resources res) {
+        AssetManager assets = res.getAssets();
+        Configuration config = res.getConfiguration();
+        Iterator<Key> it = this.mEntries.keySet().iterator();
+        while (it.hasNext()) {
+            Key key = (Key) it.next();
+            if (key.isCleared()) {
+                it.remove();
+            } else if (key.mAssets.get() == assets && !key.mConfig.equals(config)) {
+                it.remove();
+                this.mEvictionCount++;
+            }
+        }
+    }
+
+    public synchronized void setMaxSize(int maxSize) {
+        if (maxSize > 0) {
+            this.mMaxSize = maxSize;
+            trimToSize(maxSize);
+        } else {
+            throw new IllegalArgumentException("maxSize <= 0");
+        }
+    }
+
+    public synchronized int getMaxSize() {
+        return this.mMaxSize;
+    }
+
+    public synchronized int size() {
+        return this.mEntries.size();
+    }
+
+    public synchronized long getHitCount() {
+        return this.mHitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return this.mMissCount;
+    }
+
+    public synchronized long getEvictionCount() {
+        return this.mEvictionCount;
+    }
+
+    public synchronized void evictAll() {
+        this.mEntries.clear();
+    }
+
+    private void trimToSize(int maxSize) {
+        Iterator<Key> it = this.mEntries.keySet().iterator();
+        while (this.mEntries.size() > maxSize && it.hasNext()) {
+            it.next();
+            it.remove();
+            this.mEvictionCount++;
+        }
+    }
+
+    private void purgeCleared() {
+        Iterator<Key> it = this.mEntries.keySet().iterator();
+        while (it.hasNext()) {
+            if (((Key) it.next()).isCleared()) {
+                it.remove();
+            }
+        }
+    }
+}
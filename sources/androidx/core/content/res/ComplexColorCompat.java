@@ -7,6 +7,7 @@ import android.graphics.Shader;
 import android.util.AttributeSet;
 import android.util.Log;
 import android.util.Xml;
+import androidx.core.content.res.GradientColorInflaterCompat.GradientSpec;
 import java.io.IOException;
 import org.xmlpull.v1.XmlPullParser;
 import org.xmlpull.v1.XmlPullParserException;
@@ -15,24 +16,35 @@ public final class ComplexColorCompat {
     private static final String LOG_TAG = "ComplexColorCompat";
     private int mColor;
     private final ColorStateList mColorStateList;
+    private final GradientSpec mGradientSpec;
     private final Shader mShader;
 
-    private ComplexColorCompat(Shader shader, ColorStateList colorStateList, int color) {
+    private ComplexColorCompat(GradientSpec gradientSpec, Shader shader, ColorStateList colorStateList, int color) {
+        this.mGradientSpec = gradientSpec;
         this.mShader = shader;
         this.mColorStateList = colorStateList;
         this.mColor = color;
     }
 
     static ComplexColorCompat from(Shader shader) {
-        return new ComplexColorCompat(shader, null, 0);
+        return new ComplexColorCompat(null, shader, null, 0);
+    }
+
+    static ComplexColorCompat from(GradientSpec gradientSpec) {
+        return new ComplexColorCompat(gradientSpec, gradientSpec.createShader(), null, 0);
     }
 
     static ComplexColorCompat from(ColorStateList colorStateList) {
-        return new ComplexColorCompat(null, colorStateList, colorStateList.getDefaultColor());
+        return new ComplexColorCompat(null, null, colorStateList, colorStateList.getDefaultColor());
     }
 
     static ComplexColorCompat from(int color) {
-        return new ComplexColorCompat(null, null, color);
+        return new ComplexColorCompat(null, null, null, color);
+    }
+
+    public ComplexColorCompat copy() {
+        GradientSpec gradientSpec = this.mGradientSpec;
+        return new ComplexColorCompat(gradientSpec, gradientSpec != null ? gradientSpec.createShader() : this.mShader, this.mColorStateList, this.mColor);
     }
 
     public Shader getShader() {
@@ -89,6 +101,11 @@ public final class ComplexColorCompat {
 
     private static ComplexColorCompat createFromXml(Resources resources, int resId, Theme theme) throws IOException, XmlPullParserException {
         int type;
+        ComplexColorCache cache = ComplexColorCache.getInstance();
+        Object cached = cache.get(resources, resId, theme);
+        if (cached != null) {
+            return fromCached(cached);
+        }
         XmlPullParser parser = resources.getXml(resId);
         AttributeSet attrs = Xml.asAttributeSet(parser);
         do {
@@ -110,10 +127,14 @@ public final class ComplexColorCompat {
                 c = 1;
             }
             if (c == 0) {
-                return from(ColorStateListInflaterCompat.createFromXmlInner(resources, parser, attrs, theme));
+                ColorStateList colorStateList = ColorStateListInflaterCompat.createFromXmlInner(resources, parser, attrs, theme);
+                cache.put(resources, resId, theme, colorStateList);
+                return from(colorStateList);
             }
             if (c == 1) {
-                return from(GradientColorInflaterCompat.createFromXmlInner(resources, parser, attrs, theme));
+                GradientSpec spec = GradientColorInflaterCompat.inflateSpec(resources, parser, attrs, theme);
+                cache.put(resources, resId, theme, spec);
+                return from(spec);
             }
             StringBuilder sb = new StringBuilder();
             sb.append(parser.getPositionDescription());
@@ -123,4 +144,11 @@ public final class ComplexColorCompat {
         }
         throw new XmlPullParserException("No start tag found");
     }
+
+    private static ComplexColorCompat fromCached(Object cached) {
+        if (cached instanceof GradientSpec) {
+            return from((GradientSpec) cached);
+        }
+        return from((ColorStateList) cached);
+    }
 }
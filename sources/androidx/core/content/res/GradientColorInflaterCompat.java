@@ -46,6 +46,44 @@ final class GradientColorInflaterCompat {
         }
     }
 
+    static final class GradientSpec {
+        final float mCenterX;
+        final float mCenterY;
+        final ColorStops mColorStops;
+        final float mEndX;
+        final float mEndY;
+        final float mGradientRadius;
+        final float mStartX;
+        final float mStartY;
+        final TileMode mTileMode;
+        final int mType;
+
+        GradientSpec(int type, float startX, float startY, float endX, float endY, float centerX, float centerY, float gradientRadius, ColorStops colorStops, TileMode tileMode) {
+            this.mType = type;
+            this.mStartX = startX;
+            this.mStartY = startY;
+            this.mEndX = endX;
+            this.mEndY = endY;
+            this.mCenterX = centerX;
+            this.mCenterY = centerY;
+            this.mGradientRadius = gradientRadius;
+            this.mColorStops = colorStops;
+            this.mTileMode = tileMode;
+        }
+
+        /* access modifiers changed from: 0000 */
+        public Shader createShader() {
+            int i = this.mType;
+            if (i == 1) {
+                return new RadialGradient(this.mCenterX, this.mCenterY, this.mGradientRadius, this.mColorStops.mColors, this.mColorStops.mOffsets, this.mTileMode);
+            }
+            if (i != 2) {
+                return new LinearGradient(this.mStartX, this.mStartY, this.mEndX, this.mEndY, this.mColorStops.mColors, this.mColorStops.mOffsets, this.mTileMode);
+            }
+            return new SweepGradient(this.mCenterX, this.mCenterY, this.mColorStops.mColors, this.mColorStops.mOffsets);
+        }
+    }
+
     private GradientColorInflaterCompat() {
     }
 
@@ -66,61 +104,39 @@ final class GradientColorInflaterCompat {
     }
 
     static Shader createFromXmlInner(Resources resources, XmlPullParser parser, AttributeSet attrs, Theme theme) throws IOException, XmlPullParserException {
-        XmlPullParser xmlPullParser = parser;
+        return inflateSpec(resources, parser, attrs, theme).createShader();
+    }
+
+    static GradientSpec inflateSpec(Resources resources, XmlPullParser parser, AttributeSet attrs, Theme theme) throws IOException, XmlPullParserException {
         String name = parser.getName();
         if (name.equals("gradient")) {
-            Theme theme2 = theme;
-            TypedArray a = TypedArrayUtils.obtainAttributes(resources, theme2, attrs, C0110R.styleable.GradientColor);
-            float startX = TypedArrayUtils.getNamedFloat(a, xmlPullParser, "startX", C0110R.styleable.GradientColor_android_startX, 0.0f);
-            float startY = TypedArrayUtils.getNamedFloat(a, xmlPullParser, "startY", C0110R.styleable.GradientColor_android_startY, 0.0f);
-            float endX = TypedArrayUtils.getNamedFloat(a, xmlPullParser, "endX", C0110R.styleable.GradientColor_android_endX, 0.0f);
-            float endY = TypedArrayUtils.getNamedFloat(a, xmlPullParser, "endY", C0110R.styleable.GradientColor_android_endY, 0.0f);
-            float centerX = TypedArrayUtils.getNamedFloat(a, xmlPullParser, "centerX", C0110R.styleable.GradientColor_android_centerX, 0.0f);
-            float centerY = TypedArrayUtils.getNamedFloat(a, xmlPullParser, "centerY", C0110R.styleable.GradientColor_android_centerY, 0.0f);
-            int type = TypedArrayUtils.getNamedInt(a, xmlPullParser, "type", C0110R.styleable.GradientColor_android_type, 0);
-            int startColor = TypedArrayUtils.getNamedColor(a, xmlPullParser, "startColor", C0110R.styleable.GradientColor_android_startColor, 0);
+            TypedArray a = TypedArrayUtils.obtainAttributes(resources, theme, attrs, C0110R.styleable.GradientColor);
+            float startX = TypedArrayUtils.getNamedFloat(a, parser, "startX", C0110R.styleable.GradientColor_android_startX, 0.0f);
+            float startY = TypedArrayUtils.getNamedFloat(a, parser, "startY", C0110R.styleable.GradientColor_android_startY, 0.0f);
+            float endX = TypedArrayUtils.getNamedFloat(a, parser, "endX", C0110R.styleable.GradientColor_android_endX, 0.0f);
+            float endY = TypedArrayUtils.getNamedFloat(a, parser, "endY", C0110R.styleable.GradientColor_android_endY, 0.0f);
+            float centerX = TypedArrayUtils.getNamedFloat(a, parser, "centerX", C0110R.styleable.GradientColor_android_centerX, 0.0f);
+            float centerY = TypedArrayUtils.getNamedFloat(a, parser, "centerY", C0110R.styleable.GradientColor_android_centerY, 0.0f);
+            int type = TypedArrayUtils.getNamedInt(a, parser, "type", C0110R.styleable.GradientColor_android_type, 0);
+            int startColor = TypedArrayUtils.getNamedColor(a, parser, "startColor", C0110R.styleable.GradientColor_android_startColor, 0);
             String str = "centerColor";
-            boolean hasCenterColor = TypedArrayUtils.hasAttribute(xmlPullParser, str);
-            int centerColor = TypedArrayUtils.getNamedColor(a, xmlPullParser, str, C0110R.styleable.GradientColor_android_centerColor, 0);
-            int endColor = TypedArrayUtils.getNamedColor(a, xmlPullParser, "endColor", C0110R.styleable.GradientColor_android_endColor, 0);
-            int tileMode = TypedArrayUtils.getNamedInt(a, xmlPullParser, "tileMode", C0110R.styleable.GradientColor_android_tileMode, 0);
-            float gradientRadius = TypedArrayUtils.getNamedFloat(a, xmlPullParser, "gradientRadius", C0110R.styleable.GradientColor_android_gradientRadius, 0.0f);
+            boolean hasCenterColor = TypedArrayUtils.hasAttribute(parser, str);
+            int centerColor = TypedArrayUtils.getNamedColor(a, parser, str, C0110R.styleable.GradientColor_android_centerColor, 0);
+            int endColor = TypedArrayUtils.getNamedColor(a, parser, "endColor", C0110R.styleable.GradientColor_android_endColor, 0);
+            int tileMode = TypedArrayUtils.getNamedInt(a, parser, "tileMode", C0110R.styleable.GradientColor_android_tileMode, 0);
+            float gradientRadius = TypedArrayUtils.getNamedFloat(a, parser, "gradientRadius", C0110R.styleable.GradientColor_android_gradientRadius, 0.0f);
             a.recycle();
             ColorStops colorStops = checkColors(inflateChildElements(resources, parser, attrs, theme), startColor, endColor, hasCenterColor, centerColor);
-            if (type == 1) {
-                boolean z = hasCenterColor;
-                int i = startColor;
-                int i2 = type;
-                float centerY2 = centerY;
-                float centerX2 = centerX;
-                if (gradientRadius > 0.0f) {
-                    int[] iArr = colorStops.mColors;
-                    RadialGradient radialGradient = new RadialGradient(centerX2, centerY2, gradientRadius, iArr, colorStops.mOffsets, parseTileMode(tileMode));
-                    return radialGradient;
-                }
-                throw new XmlPullParserException("<gradient> tag requires 'gradientRadius' attribute with radial type");
-            } else if (type != 2) {
-                int[] iArr2 = colorStops.mColors;
-                int[] iArr3 = iArr2;
-                boolean z2 = hasCenterColor;
-                int i3 = startColor;
-                int i4 = type;
-                float f = centerY;
-                TypedArray typedArray = a;
-                float f2 = centerX;
-                LinearGradient linearGradient = new LinearGradient(startX, startY, endX, endY, iArr3, colorStops.mOffsets, parseTileMode(tileMode));
-                return linearGradient;
-            } else {
-                boolean z3 = hasCenterColor;
-                return new SweepGradient(centerX, centerY, colorStops.mColors, colorStops.mOffsets);
+            if (type != 1 || gradientRadius > 0.0f) {
+                return new GradientSpec(type, startX, startY, endX, endY, centerX, centerY, gradientRadius, colorStops, parseTileMode(tileMode));
             }
-        } else {
-            StringBuilder sb = new StringBuilder();
-            sb.append(parser.getPositionDescription());
-            sb.append(": invalid gradient color tag ");
-            sb.append(name);
-            throw new XmlPullParserException(sb.toString());
+            throw new XmlPullParserException("<gradient> tag requires 'gradientRadius' attribute with radial type");
         }
+        StringBuilder sb = new StringBuilder();
+        sb.append(parser.getPositionDescription());
+        sb.append(": invalid gradient color tag ");
+        sb.append(name);
+        throw new XmlPullParserException(sb.toString());
     }
 
     /* JADX WARNING: Code restructure failed: missing block: B:17:0x008c, code lost:
@@ -6,6 +6,7 @@ import java.util.Objects;
 public final class ColorUtils {
     private static final int MIN_ALPHA_SEARCH_MAX_ITERATIONS = 10;
     private static final int MIN_ALPHA_SEARCH_PRECISION = 1;
+    private static final double[] SRGB_TO_LINEAR = createLinearTable();
     private static final ThreadLocal<double[]> TEMP_ARRAY = new ThreadLocal<>();
     private static final double XYZ_EPSILON = 0.008856d;
     private static final double XYZ_KAPPA = 903.3d;
@@ -110,6 +111,67 @@ public final class ColorUtils {
         }
     }
 
+    public static void calculateLuminance(int[] colors, int offset, int count, double[] outLuminance) {
+        checkRange(colors.length, offset, count);
+        if (outLuminance.length >= count) {
+            double[] linear = SRGB_TO_LINEAR;
+            for (int i = 0; i < count; i++) {
+                int color = colors[offset + i];
+                outLuminance[i] = ((((0.2126d * linear[(color >> 16) & 255]) + (0.7152d * linear[(color >> 8) & 255])) + (0.0722d * linear[color & 255])) * XYZ_WHITE_REFERENCE_Y) / XYZ_WHITE_REFERENCE_Y;
+            }
+            return;
+        }
+        throw new IllegalArgumentException("outLuminance must have a length of at least count.");
+    }
+
+    public static void calculateMinimumAlpha(int[] foregrounds, int[] backgrounds, int offset, int count, float minContrastRatio, int[] outAlpha) {
+        checkRange(foregrounds.length, offset, count);
+        checkRange(backgrounds.length, offset, count);
+        if (outAlpha.length >= count) {
+            double minRatio = (double) minContrastRatio;
+            for (int i = 0; i < count; i++) {
+                int foreground = foregrounds[offset + i];
+                int background = backgrounds[offset + i];
+                if (Color.alpha(background) == 255) {
+                    double bgLuminance = luminance(background) + 0.05d;
+                    if (contrast(foreground | -16777216, bgLuminance) < minRatio) {
+                        outAlpha[i] = -1;
+                    } else {
+                        int rgb = 16777215 & foreground;
+                        int minAlpha = 0;
+                        int maxAlpha = 255;
+                        for (int numIterations = 0; numIterations <= 10 && maxAlpha - minAlpha > 1; numIterations++) {
+                            int testAlpha = (minAlpha + maxAlpha) / 2;
+                            if (contrast(compositeColors((testAlpha << 24) | rgb, background), bgLuminance) < minRatio) {
+                                minAlpha = testAlpha;
+                            } else {
+                                maxAlpha = testAlpha;
+                            }
+                        }
+                        outAlpha[i] = maxAlpha;
+                    }
+                } else {
+                    StringBuilder sb = new StringBuilder();
+                    sb.append("background can not be translucent: #");
+                    sb.append(Integer.toHexString(background));
+                    throw new IllegalArgumentException(sb.toString());
+                }
+            }
+            return;
+        }
+        throw new IllegalArgumentException("outAlpha must have a length of at least count.");
+    }
+
+    private static double luminance(int color) {
+        double[] linear = SRGB_TO_LINEAR;
+        return ((((0.2126d * linear[(color >> 16) & 255]) + (0.7152d * linear[(color >> 8) & 255])) + (0.0722d * linear[color & 255])) * XYZ_WHITE_REFERENCE_Y) / XYZ_WHITE_REFERENCE_Y;
+    }
+
+    private static double contrast(int opaqueForeground, double backgroundLuminance) {
+        double luminance1 = luminance(opaqueForeground) + 0.05d;
+        return Math.max(luminance1, backgroundLuminance) / Math.min(luminance1, backgroundLuminance);
+    }
+
     public static void RGBToHSL(int r, int g, int b, float[] outHsl) {
         float h;
         float s;
@@ -203,6 +265,29 @@ public final class ColorUtils {
         RGBToLAB(Color.red(color), Color.green(color), Color.blue(color), outLab);
     }
 
+    public static void colorsToLAB(int[] colors, int offset, int count, double[] outLab) {
+        checkRange(colors.length, offset, count);
+        if (outLab.length >= count * 3) {
+            double[] linear = SRGB_TO_LINEAR;
+            int out = 0;
+            for (int i = 0; i < count; i++) {
+                int color = colors[offset + i];
+                double sr = linear[(color >> 16) & 255];
+                double sg = linear[(color >> 8) & 255];
+                double sb = linear[color & 255];
+                double x = pivotXyzComponent(((((0.4124d * sr) + (0.3576d * sg)) + (0.1805d * sb)) * XYZ_WHITE_REFERENCE_Y) / XYZ_WHITE_REFERENCE_X);
+                double y = pivotXyzComponent(((((0.2126d * sr) + (0.7152d * sg)) + (0.0722d * sb)) * XYZ_WHITE_REFERENCE_Y) / XYZ_WHITE_REFERENCE_Y);
+                double z = pivotXyzComponent(((((0.0193d * sr) + (0.1192d * sg)) + (0.9505d * sb)) * XYZ_WHITE_REFERENCE_Y) / XYZ_WHITE_REFERENCE_Z);
+                outLab[out] = Math.max(0.0d, (116.0d * y) - 16.0d);
+                outLab[out + 1] = (x - y) * 500.0d;
+                outLab[out + 2] = (y - z) * 200.0d;
+                out += 3;
+            }
+            return;
+        }
+        throw new IllegalArgumentException("outLab must have a length of at least 3 * count.");
+    }
+
     public static void RGBToLAB(int r, int g, int b, double[] outLab) {
         RGBToXYZ(r, g, b, outLab);
         XYZToLAB(outLab[0], outLab[1], outLab[2], outLab);
@@ -338,6 +423,28 @@ public final class ColorUtils {
         return (((b - a) * f) + a) % 360.0f;
     }
 
+    private static void checkRange(int length, int offset, int count) {
+        if (offset < 0 || count < 0 || offset > length - count) {
+            StringBuilder sb = new StringBuilder();
+            sb.append("offset=");
+            sb.append(offset);
+            sb.append(", count=");
+            sb.append(count);
+            sb.append(", length=");
+            sb.append(length);
+            throw new ArrayIndexOutOfBoundsException(sb.toString());
+        }
+    }
+
+    private static double[] createLinearTable() {
+        double[] table = new double[256];
+        for (int i = 0; i < 256; i++) {
+            double d = ((double) i) / 255.0d;
+            table[i] = d < 0.04045d ? d / 12.92d : Math.pow((d + 0.055d) / 1.055d, 2.4d);
+        }
+        return table;
+    }
+
     private static double[] getTempDouble3Array() {
         double[] result = (double[]) TEMP_ARRAY.get();
         if (result != null) {
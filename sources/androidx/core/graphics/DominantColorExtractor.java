@@ -0,0 +1,127 @@
+package androidx.core.graphics;
+
+import java.util.Arrays;
+
+public final class DominantColorExtractor {
+    private static final int DEFAULT_MAX_CANDIDATES = 16;
+    private static final double DEFAULT_MERGE_DISTANCE = 12.0d;
+    private static final int HISTOGRAM_SIZE = 32768;
+    private static final int MIN_ALPHA = 128;
+    private final int[] mCandidateCounts;
+    private final int[] mCandidates;
+    private final int[] mClusterCounts;
+    private final int[] mHistogram = new int[HISTOGRAM_SIZE];
+    private final double[] mLab;
+    private final double mMergeDistanceSquared;
+
+    public DominantColorExtractor() {
+        this(DEFAULT_MAX_CANDIDATES, DEFAULT_MERGE_DISTANCE);
+    }
+
+    public DominantColorExtractor(int maxCandidates, double mergeDistance) {
+        if (maxCandidates <= 0) {
+            throw new IllegalArgumentException("maxCandidates <= 0");
+        } else if (mergeDistance >= 0.0d) {
+            this.mCandidates = new int[maxCandidates];
+            this.mCandidateCounts = new int[maxCandidates];
+            this.mClusterCounts = new int[maxCandidates];
+            this.mLab = new double[(maxCandidates * 3)];
+            this.mMergeDistanceSquared = mergeDistance * mergeDistance;
+        } else {
+            throw new IllegalArgumentException("mergeDistance < 0");
+        }
+    }
+
+    public int extract(int[] pixels, int defaultColor) {
+        return extract(pixels, 0, pixels.length, defaultColor);
+    }
+
+    public int extract(int[] pixels, int offset, int count, int defaultColor) {
+        if (offset < 0 || count < 0 || offset > pixels.length - count) {
+            StringBuilder sb = new StringBuilder();
+            sb.append("offset=");
+            sb.append(offset);
+            sb.append(", count=");
+            sb.append(count);
+            sb.append(", length=");
+            sb.append(pixels.length);
+            throw new ArrayIndexOutOfBoundsException(sb.toString());
+        }
+        int[] histogram = this.mHistogram;
+        Arrays.fill(histogram, 0);
+        int end = offset + count;
+        for (int i = offset; i < end; i++) {
+            int pixel = pixels[i];
+            if ((pixel >>> 24) >= MIN_ALPHA) {
+                int bucket = ((pixel >> 9) & 31744) | ((pixel >> 6) & 992) | ((pixel >> 3) & 31);
+                histogram[bucket] = histogram[bucket] + 1;
+            }
+        }
+        int size = selectCandidates();
+        if (size == 0) {
+            return defaultColor;
+        }
+        int[] candidates = this.mCandidates;
+        int[] candidateCounts = this.mCandidateCounts;
+        int[] clusterCounts = this.mClusterCounts;
+        double[] lab = this.mLab;
+        ColorUtils.colorsToLAB(candidates, 0, size, lab);
+        int best = 0;
+        for (int i2 = 0; i2 < size; i2++) {
+            clusterCounts[i2] = candidateCounts[i2];
+            int head = i2 * 3;
+            for (int j = 0; j < i2; j++) {
+                if (clusterCounts[j] > 0) {
+                    int other = j * 3;
+                    double dl = lab[head] - lab[other];
+                    double da = lab[head + 1] - lab[other + 1];
+                    double db = lab[head + 2] - lab[other + 2];
+                    if ((dl * dl) + (da * da) + (db * db) <= this.mMergeDistanceSquared) {
+                        clusterCounts[j] = clusterCounts[j] + candidateCounts[i2];
+                        clusterCounts[i2] = 0;
+                        if (clusterCounts[j] > clusterCounts[best]) {
+                            best = j;
+                        }
+                        break;
+                    }
+                }
+            }
+            if (clusterCounts[i2] > clusterCounts[best]) {
+                best = i2;
+            }
+        }
+        return candidates[best];
+    }
+
+    private int selectCandidates() {
+        int[] histogram = this.mHistogram;
+        int[] candidates = this.mCandidates;
+        int[] counts = this.mCandidateCounts;
+        int max = candidates.length;
+        int size = 0;
+        for (int bucket = 0; bucket < HISTOGRAM_SIZE; bucket++) {
+            int population = histogram[bucket];
+            if (population != 0 && (size < max || population > counts[size - 1])) {
+                int i = size < max ? size : max - 1;
+                while (i > 0 && counts[i - 1] < population) {
+                    counts[i] = counts[i - 1];
+                    candidates[i] = candidates[i - 1];
+                    i--;
+                }
+                counts[i] = population;
+                candidates[i] = bucketToColor(bucket);
+                if (size < max) {
+                    size++;
+                }
+            }
+        }
+        return size;
+    }
+
+    private static int bucketToColor(int bucket) {
+        int r = (bucket >> 10) & 31;
+        int g = (bucket >> 5) & 31;
+        int b = bucket & 31;
+        return (((((r << 3) | (r >> 2)) << 16) | -16777216) | (((g << 3) | (g >> 2)) << 8)) | ((b << 3) | (b >> 2));
+    }
+}
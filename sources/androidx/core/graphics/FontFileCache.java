@@ -0,0 +1,420 @@
+package androidx.core.graphics;
+
+import android.content.Context;
+import android.content.res.Resources;
+import android.net.Uri;
+import android.util.Log;
+import androidx.arch.core.executor.PriorityTaskExecutor;
+import androidx.arch.core.executor.PriorityTaskExecutor.Lane;
+import androidx.core.util.AtomicFile;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map.Entry;
+import java.util.concurrent.Executor;
+
+public final class FontFileCache {
+    private static final String CACHE_DIR = "androidx.font_cache";
+    private static final long DEFAULT_MAX_SIZE = 16777216;
+    private static final String INDEX_FILE = "index";
+    private static final int INDEX_VERSION = 2;
+    private static final int MAX_KEYS = 256;
+    private static final int MAX_UNSAVED_HITS = 16;
+    private static final String TAG = "FontFileCache";
+    private static final String TEMP_PREFIX = ".tmp";
+    private static final long URI_MAX_AGE = 86400000;
+    private static volatile FontFileCache sInstance;
+    private final String mApkStamp;
+    private final Context mContext;
+    private final File mDir;
+    private final LinkedHashMap<String, Long> mFiles = new LinkedHashMap<>(16, 0.75f, true);
+    private int mHitCount;
+    private final AtomicFile mIndex;
+    private final Executor mIndexExecutor = PriorityTaskExecutor.getInstance().newSerialExecutor(Lane.IO);
+    private boolean mIndexWriteScheduled;
+    private final LinkedHashMap<String, KeyEntry> mKeys = new LinkedHashMap<>(16, 0.75f, true);
+    private boolean mLoaded;
+    private long mMaxSize = DEFAULT_MAX_SIZE;
+    private int mMissCount;
+    private long mSize;
+    private int mUnsavedHits;
+    private final Runnable mWriteIndexRunnable = new Runnable() {
+        public void run() {
+            FontFileCache.this.writeIndex();
+        }
+    };
+
+    private static final class KeyEntry {
+        final String mName;
+        final long mStamp;
+
+        KeyEntry(String name, long stamp) {
+            this.mName = name;
+            this.mStamp = stamp;
+        }
+    }
+
+    private FontFileCache(Context context) {
+        this.mContext = context;
+        this.mDir = new File(context.getCacheDir(), CACHE_DIR);
+        this.mIndex = new AtomicFile(new File(this.mDir, INDEX_FILE));
+        String sourceDir = context.getApplicationInfo().sourceDir;
+        this.mApkStamp = sourceDir != null ? Long.toHexString(new File(sourceDir).lastModified()) : "0";
+    }
+
+    public static FontFileCache getInstance(Context context) {
+        if (sInstance != null) {
+            return sInstance;
+        }
+        synchronized (FontFileCache.class) {
+            if (sInstance == null) {
+                Context appContext = context.getApplicationContext();
+                if (appContext == null) {
+                    appContext = context;
+                }
+                final FontFileCache cache = new FontFileCache(appContext);
+                PriorityTaskExecutor.getInstance().execute(Lane.IO, new Runnable() {
+                    public void run() {
+                        cache.getSize();
+                    }
+                });
+                sInstance = cache;
+            }
+        }
+        return sInstance;
+    }
+
+    public synchronized void setMaxSize(long maxSize) {
+        if (maxSize > 0) {
+            this.mMaxSize = maxSize;
+            ensureLoaded();
+            if (trimToSize(null)) {
+                scheduleIndexWrite();
+            }
+            return;
+        }
+        throw new IllegalArgumentException("maxSize <= 0");
+    }
+
+    public synchronized long getMaxSize() {
+        return this.mMaxSize;
+    }
+
+    public synchronized long getSize() {
+        ensureLoaded();
+        return this.mSize;
+    }
+
+    public synchronized int getHitCount() {
+        return this.mHitCount;
+    }
+
+    public synchronized int getMissCount() {
+        return this.mMissCount;
+    }
+
+    public synchronized void clear() {
+        ensureLoaded();
+        for (String name : this.mFiles.keySet()) {
+            new File(this.mDir, name).delete();
+        }
+        this.mFiles.clear();
+        this.mKeys.clear();
+        this.mSize = 0;
+        scheduleIndexWrite();
+    }
+
+    public File getResourceFont(Resources resources, int id) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("r:");
+        sb.append(id);
+        sb.append(":");
+        sb.append(Integer.toHexString(resources.getConfiguration().hashCode()));
+        sb.append(":");
+        sb.append(this.mApkStamp);
+        String key = sb.toString();
+        File cached = lookup(key);
+        if (cached != null) {
+            return cached;
+        }
+        InputStream is = null;
+        try {
+            is = resources.openRawResource(id);
+            return store(key, is);
+        } catch (RuntimeException e) {
+            return null;
+        } finally {
+            TypefaceCompatUtil.closeQuietly(is);
+        }
+    }
+
+    public File getUriFont(Uri uri) {
+        if ("file".equals(uri.getScheme())) {
+            return new File(uri.getPath());
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append("u:");
+        sb.append(uri.toString());
+        String key = sb.toString();
+        File cached = lookup(key);
+        if (cached != null) {
+            return cached;
+        }
+        InputStream is = null;
+        try {
+            is = this.mContext.getContentResolver().openInputStream(uri);
+            if (is == null) {
+                return null;
+            }
+            return store(key, is);
+        } catch (IOException e) {
+            return null;
+        } finally {
+            TypefaceCompatUtil.closeQuietly(is);
+        }
+    }
+
+    private synchronized File lookup(String key) {
+        ensureLoaded();
+        KeyEntry entry = (KeyEntry) this.mKeys.get(key);
+        if (entry != null) {
+            File file = new File(this.mDir, entry.mName);
+            if (this.mFiles.get(entry.mName) == null || !file.exists()) {
+                removeFile(entry.mName);
+                scheduleIndexWrite();
+            } else if (!key.startsWith("u:") || Math.abs(System.currentTimeMillis() - entry.mStamp) < URI_MAX_AGE) {
+                this.mHitCount++;
+                int i = this.mUnsavedHits + 1;
+                this.mUnsavedHits = i;
+                if (i >= MAX_UNSAVED_HITS) {
+                    this.mUnsavedHits = 0;
+                    scheduleIndexWrite();
+                }
+                return file;
+            }
+        }
+        this.mMissCount++;
+        return null;
+    }
+
+    private File store(String key, InputStream is) {
+        if (!this.mDir.isDirectory() && !this.mDir.mkdirs()) {
+            return null;
+        }
+        try {
+            File tmpFile = File.createTempFile(TEMP_PREFIX, null, this.mDir);
+            MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            if (!TypefaceCompatUtil.copyToFile(tmpFile, new DigestInputStream(is, digest))) {
+                tmpFile.delete();
+                return null;
+            }
+            String name = toHex(digest.digest());
+            synchronized (this) {
+                File file = new File(this.mDir, name);
+                if (this.mFiles.get(name) == null || !file.exists()) {
+                    if (!tmpFile.renameTo(file)) {
+                        tmpFile.delete();
+                        return null;
+                    }
+                    Long previous = (Long) this.mFiles.put(name, Long.valueOf(file.length()));
+                    if (previous != null) {
+                        this.mSize -= previous.longValue();
+                    }
+                    this.mSize += file.length();
+                } else {
+                    tmpFile.delete();
+                }
+                KeyEntry previousKey = (KeyEntry) this.mKeys.put(key, new KeyEntry(name, System.currentTimeMillis()));
+                if (previousKey != null && !previousKey.mName.equals(name)) {
+                    releaseIfUnreferenced(previousKey.mName);
+                }
+                trimKeys();
+                trimToSize(name);
+                scheduleIndexWrite();
+                return file;
+            }
+        } catch (IOException e) {
+            Log.w(TAG, "Unable to cache font file", e);
+            return null;
+        } catch (NoSuchAlgorithmException e2) {
+            return null;
+        }
+    }
+
+    private boolean trimToSize(String keep) {
+        boolean trimmed = false;
+        Iterator<Entry<String, Long>> it = this.mFiles.entrySet().iterator();
+        while (this.mSize > this.mMaxSize && it.hasNext()) {
+            Entry<String, Long> eldest = (Entry) it.next();
+            String name = (String) eldest.getKey();
+            if (!name.equals(keep)) {
+                it.remove();
+                this.mSize -= ((Long) eldest.getValue()).longValue();
+                new File(this.mDir, name).delete();
+                removeKeysFor(name);
+                trimmed = true;
+            }
+        }
+        return trimmed;
+    }
+
+    private void trimKeys() {
+        while (this.mKeys.size() > MAX_KEYS) {
+            Iterator<KeyEntry> it = this.mKeys.values().iterator();
+            KeyEntry eldest = (KeyEntry) it.next();
+            it.remove();
+            releaseIfUnreferenced(eldest.mName);
+        }
+    }
+
+    private boolean isReferenced(String name) {
+        for (KeyEntry entry : this.mKeys.values()) {
+            if (entry.mName.equals(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void removeKeysFor(String name) {
+        Iterator<KeyEntry> it = this.mKeys.values().iterator();
+        while (it.hasNext()) {
+            if (((KeyEntry) it.next()).mName.equals(name)) {
+                it.remove();
+            }
+        }
+    }
+
+    private void releaseIfUnreferenced(String name) {
+        if (!isReferenced(name)) {
+            Long size = (Long) this.mFiles.remove(name);
+            if (size != null) {
+                this.mSize -= size.longValue();
+            }
+            new File(this.mDir, name).delete();
+        }
+    }
+
+    private void removeFile(String name) {
+        Long size = (Long) this.mFiles.remove(name);
+        if (size != null) {
+            this.mSize -= size.longValue();
+        }
+        removeKeysFor(name);
+        new File(this.mDir, name).delete();
+    }
+
+    private void ensureLoaded() {
+        if (!this.mLoaded) {
+            this.mLoaded = true;
+            readIndex();
+        }
+    }
+
+    private void readIndex() {
+        File[] files = this.mDir.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                if (file.getName().startsWith(TEMP_PREFIX)) {
+                    file.delete();
+                }
+            }
+        }
+        if (this.mIndex.getBaseFile().exists()) {
+            try {
+                DataInputStream in = new DataInputStream(new ByteArrayInputStream(this.mIndex.readFully()));
+                int version = in.readInt();
+                if (version == 1 || version == INDEX_VERSION) {
+                    int fileCount = in.readInt();
+                    for (int i = 0; i < fileCount; i++) {
+                        String name = in.readUTF();
+                        long size = in.readLong();
+                        if (new File(this.mDir, name).exists()) {
+                            this.mFiles.put(name, Long.valueOf(size));
+                            this.mSize += size;
+                        }
+                    }
+                    int keyCount = in.readInt();
+                    for (int i2 = 0; i2 < keyCount; i2++) {
+                        String key = in.readUTF();
+                        String name2 = in.readUTF();
+                        long stamp = version >= INDEX_VERSION ? in.readLong() : 0;
+                        if (this.mFiles.containsKey(name2)) {
+                            this.mKeys.put(key, new KeyEntry(name2, stamp));
+                        }
+                    }
+                    trimKeys();
+                }
+            } catch (IOException e) {
+                Log.w(TAG, "Unable to read font cache index", e);
+                this.mFiles.clear();
+                this.mKeys.clear();
+                this.mSize = 0;
+            }
+        }
+    }
+
+    private void scheduleIndexWrite() {
+        if (!this.mIndexWriteScheduled) {
+            this.mIndexWriteScheduled = true;
+            this.mIndexExecutor.execute(this.mWriteIndexRunnable);
+        }
+    }
+
+    private synchronized byte[] snapshotIndex() throws IOException {
+        this.mIndexWriteScheduled = false;
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream data = new DataOutputStream(bytes);
+        data.writeInt(INDEX_VERSION);
+        data.writeInt(this.mFiles.size());
+        for (Entry<String, Long> entry : this.mFiles.entrySet()) {
+            data.writeUTF((String) entry.getKey());
+            data.writeLong(((Long) entry.getValue()).longValue());
+        }
+        data.writeInt(this.mKeys.size());
+        for (Entry<String, KeyEntry> entry2 : this.mKeys.entrySet()) {
+            data.writeUTF((String) entry2.getKey());
+            data.writeUTF(((KeyEntry) entry2.getValue()).mName);
+            data.writeLong(((KeyEntry) entry2.getValue()).mStamp);
+        }
+        data.flush();
+        return bytes.toByteArray();
+    }
+
+    /* access modifiers changed from: 0000 */
+    public void writeIndex() {
+        FileOutputStream out = null;
+        try {
+            byte[] index = snapshotIndex();
+            if (this.mDir.isDirectory() || this.mDir.mkdirs()) {
+                out = this.mIndex.startWrite();
+                out.write(index);
+                this.mIndex.finishWrite(out);
+            }
+        } catch (IOException e) {
+            Log.w(TAG, "Unable to write font cache index", e);
+            if (out != null) {
+                this.mIndex.failWrite(out);
+            }
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder sb = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            sb.append(Character.forDigit((b >> 4) & 15, 16));
+            sb.append(Character.forDigit(b & 15, 16));
+        }
+        return sb.toString();
+    }
+}
@@ -7,20 +7,42 @@ import java.util.ArrayList;
 
 public class PathParser {
     private static final String LOGTAG = "PathParser";
+    private static final float[] POWERS_OF_TEN = {1.0f, 10.0f, 100.0f, 1000.0f, 10000.0f, 100000.0f, 1000000.0f, 1.0E7f, 1.0E8f, 1.0E9f, 1.0E10f};
 
-    private static class ExtractFloatResult {
+    private static class PathScanner {
+        float[] mBuffer = new float[16];
+        int mCount;
         int mEndPosition;
         boolean mEndWithNegOrDot;
 
-        ExtractFloatResult() {
+        PathScanner() {
+        }
+
+        /* access modifiers changed from: 0000 */
+        public void add(float value) {
+            int i = this.mCount;
+            float[] fArr = this.mBuffer;
+            if (i == fArr.length) {
+                float[] grown = new float[(i * 2)];
+                System.arraycopy(fArr, 0, grown, 0, i);
+                this.mBuffer = grown;
+            }
+            float[] fArr2 = this.mBuffer;
+            int i2 = this.mCount;
+            this.mCount = i2 + 1;
+            fArr2[i2] = value;
         }
     }
 
     public static class PathDataNode {
+        private static final int ARC_CACHE_STRIDE = 58;
+        private static final int ARC_INPUT_COUNT = 9;
+        private static final int MAX_ARC_SEGMENTS = 8;
+        private float[] mArcCache;
         public float[] mParams;
         public char mType;
 
-        PathDataNode(char type, float[] params) {
+        public PathDataNode(char type, float[] params) {
             this.mType = type;
             this.mParams = params;
         }
@@ -32,11 +54,17 @@ public class PathParser {
         }
 
         public static void nodesToPath(PathDataNode[] node, Path path) {
-            float[] current = new float[6];
+            nodesToPath(node, path, new float[6]);
+        }
+
+        public static void nodesToPath(PathDataNode[] node, Path path, float[] current) {
+            for (int i = 0; i < 6; i++) {
+                current[i] = 0.0f;
+            }
             char previousCommand = 'm';
-            for (int i = 0; i < node.length; i++) {
-                addCommand(path, current, previousCommand, node[i].mType, node[i].mParams);
-                previousCommand = node[i].mType;
+            for (int i2 = 0; i2 < node.length; i2++) {
+                addCommand(path, current, previousCommand, node[i2].mType, node[i2].mParams, node[i2]);
+                previousCommand = node[i2].mType;
             }
         }
 
@@ -53,7 +81,7 @@ public class PathParser {
             }
         }
 
-        private static void addCommand(Path path, float[] current, char previousCmd, char cmd, float[] val) {
+        private static void addCommand(Path path, float[] current, char previousCmd, char cmd, float[] val, PathDataNode node) {
             int incr;
             int k;
             float reflectiveCtrlPointY;
@@ -123,7 +151,7 @@ public class PathParser {
             while (k2 < fArr.length) {
                 if (c == 'A') {
                     k = k2;
-                    drawArc(path, currentX2, currentY2, fArr[k + 5], fArr[k + 6], fArr[k + 0], fArr[k + 1], fArr[k + 2], fArr[k + 3] != 0.0f, fArr[k + 4] != 0.0f);
+                    node.drawArc(path, k / 7, currentX2, currentY2, fArr[k + 5], fArr[k + 6], fArr[k + 0], fArr[k + 1], fArr[k + 2], fArr[k + 3] != 0.0f, fArr[k + 4] != 0.0f);
                     currentX2 = fArr[k + 5];
                     currentY2 = fArr[k + 6];
                     ctrlPointX2 = currentX2;
@@ -166,7 +194,7 @@ public class PathParser {
                     float currentY3 = currentY2;
                     float currentX3 = currentX2;
                     k = k2;
-                    drawArc(path, currentX2, currentY2, f7, f8, f9, f10, fArr[k2 + 2], fArr[k2 + 3] != 0.0f, fArr[k2 + 4] != 0.0f);
+                    node.drawArc(path, k2 / 7, currentX2, currentY2, f7, f8, f9, f10, fArr[k2 + 2], fArr[k2 + 3] != 0.0f, fArr[k2 + 4] != 0.0f);
                     currentX2 = currentX3 + fArr[k + 5];
                     currentY2 = currentY3 + fArr[k + 6];
                     ctrlPointX2 = currentX2;
@@ -318,7 +346,47 @@ public class PathParser {
             current[5] = currentSegmentStartY2;
         }
 
-        private static void drawArc(Path p, float x0, float y0, float x1, float y1, float a, float b, float theta, boolean isMoreThanHalf, boolean isPositiveArc) {
+        private void drawArc(Path p, int index, float x0, float y0, float x1, float y1, float a, float b, float theta, boolean isMoreThanHalf, boolean isPositiveArc) {
+            float[] cache = this.mArcCache;
+            int base = index * ARC_CACHE_STRIDE;
+            if (cache == null || cache.length < base + ARC_CACHE_STRIDE) {
+                float[] grown = new float[(Math.max(index + 1, this.mParams.length / 7) * ARC_CACHE_STRIDE)];
+                int i = 0;
+                if (cache != null) {
+                    System.arraycopy(cache, 0, grown, 0, cache.length);
+                    i = cache.length / ARC_CACHE_STRIDE;
+                }
+                while (i < grown.length / ARC_CACHE_STRIDE) {
+                    grown[(ARC_CACHE_STRIDE * i) + ARC_INPUT_COUNT] = -1.0f;
+                    i++;
+                }
+                this.mArcCache = grown;
+                cache = grown;
+            }
+            float largeArc = isMoreThanHalf ? 1.0f : 0.0f;
+            float sweepFlag = isPositiveArc ? 1.0f : 0.0f;
+            if (cache[base + ARC_INPUT_COUNT] < 0.0f || cache[base] != x0 || cache[base + 1] != y0 || cache[base + 2] != x1 || cache[base + 3] != y1 || cache[base + 4] != a || cache[base + 5] != b || cache[base + 6] != theta || cache[base + 7] != largeArc || cache[base + 8] != sweepFlag) {
+                cache[base] = x0;
+                cache[base + 1] = y0;
+                cache[base + 2] = x1;
+                cache[base + 3] = y1;
+                cache[base + 4] = a;
+                cache[base + 5] = b;
+                cache[base + 6] = theta;
+                cache[base + 7] = largeArc;
+                cache[base + 8] = sweepFlag;
+                cache[base + ARC_INPUT_COUNT] = (float) arcToCubics(cache, base + ARC_INPUT_COUNT + 1, x0, y0, x1, y1, a, b, theta, isMoreThanHalf, isPositiveArc);
+            }
+            int segments = (int) cache[base + ARC_INPUT_COUNT];
+            int offset = base + ARC_INPUT_COUNT + 1;
+            for (int i2 = 0; i2 < segments; i2++) {
+                p.rLineTo(0.0f, 0.0f);
+                p.cubicTo(cache[offset], cache[offset + 1], cache[offset + 2], cache[offset + 3], cache[offset + 4], cache[offset + 5]);
+                offset += 6;
+            }
+        }
+
+        private static int arcToCubics(float[] out, int offset, float x0, float y0, float x1, float y1, float a, float b, float theta, boolean isMoreThanHalf, boolean isPositiveArc) {
             double cy;
             double cx;
             float f = x0;
@@ -375,7 +443,7 @@ public class PathParser {
             String str = PathParser.LOGTAG;
             if (dsq == 0.0d) {
                 Log.w(str, " Points are coincident");
-                return;
+                return 0;
             }
             double disc = (1.0d / dsq) - 0.25d;
             if (disc < 0.0d) {
@@ -387,8 +455,7 @@ public class PathParser {
                 float f7 = adjust;
                 double d21 = dsq;
                 boolean z2 = z;
-                drawArc(p, x0, y0, x1, y1, f5 * adjust, f6 * adjust, theta, isMoreThanHalf, isPositiveArc);
-                return;
+                return arcToCubics(out, offset, x0, y0, x1, y1, f5 * adjust, f6 * adjust, theta, isMoreThanHalf, isPositiveArc);
             }
             boolean z3 = z;
             double s = Math.sqrt(disc);
@@ -422,12 +489,12 @@ public class PathParser {
             double cy2 = d25 * cy;
             double cy3 = (cx2 * sinTheta) + (cy2 * cosTheta);
             double d26 = cy3;
-            arcToBezier(p, (cx2 * cosTheta) - (cy2 * sinTheta), cy3, (double) f5, (double) f6, (double) f, (double) f2, thetaD, eta0, sweep);
+            return arcToBezier(out, offset, (cx2 * cosTheta) - (cy2 * sinTheta), cy3, (double) f5, (double) f6, (double) f, (double) f2, thetaD, eta0, sweep);
         }
 
-        private static void arcToBezier(Path p, double cx, double cy, double a, double b, double e1x, double e1y, double theta, double start, double sweep) {
+        private static int arcToBezier(float[] out, int offset, double cx, double cy, double a, double b, double e1x, double e1y, double theta, double start, double sweep) {
             double d = a;
-            int numSegments = (int) Math.ceil(Math.abs((sweep * 4.0d) / 3.141592653589793d));
+            int numSegments = Math.min(MAX_ARC_SEGMENTS, (int) Math.ceil(Math.abs((sweep * 4.0d) / 3.141592653589793d)));
             double eta1 = start;
             double cosTheta = Math.cos(theta);
             double sinTheta = Math.sin(theta);
@@ -468,11 +535,13 @@ public class PathParser {
                 double q2x = e2x - (alpha * ep2x);
                 double ep2y2 = ep2y;
                 double q2y = cosEta13 - (alpha * ep2y);
-                p.rLineTo(0.0f, 0.0f);
-                double d3 = q1x;
-                double d4 = q1y;
-                double d5 = q2y;
-                p.cubicTo((float) q1x, (float) q1y, (float) q2x, (float) q2y, (float) e2x, (float) cosEta13);
+                int index = (i2 * 6) + offset;
+                out[index] = (float) q1x;
+                out[index + 1] = (float) q1y;
+                out[index + 2] = (float) q2x;
+                out[index + 3] = (float) q2y;
+                out[index + 4] = (float) e2x;
+                out[index + 5] = (float) cosEta13;
                 eta12 = eta2;
                 e1x2 = e2x;
                 e1y2 = cosEta13;
@@ -487,6 +556,7 @@ public class PathParser {
                 cosTheta = cosTheta2;
                 sinTheta = sinTheta2;
             }
+            return numSegments;
         }
     }
 
@@ -528,11 +598,19 @@ public class PathParser {
         int start = 0;
         int end = 1;
         ArrayList<PathDataNode> list = new ArrayList<>();
+        PathScanner scanner = new PathScanner();
         while (end < pathData.length()) {
             int end2 = nextStart(pathData, end);
-            String s = pathData.substring(start, end2).trim();
-            if (s.length() > 0) {
-                addNode(list, s.charAt(0), getFloats(s));
+            int segmentStart = start;
+            int segmentEnd = end2;
+            while (segmentStart < segmentEnd && pathData.charAt(segmentStart) <= ' ') {
+                segmentStart++;
+            }
+            while (segmentEnd > segmentStart && pathData.charAt(segmentEnd - 1) <= ' ') {
+                segmentEnd--;
+            }
+            if (segmentStart < segmentEnd) {
+                addNode(list, pathData.charAt(segmentStart), getFloats(pathData, segmentStart, segmentEnd, scanner));
             }
             start = end2;
             end = end2 + 1;
@@ -590,102 +668,153 @@ public class PathParser {
         list.add(new PathDataNode(cmd, val));
     }
 
-    private static float[] getFloats(String s) {
-        if (s.charAt(0) == 'z' || s.charAt(0) == 'Z') {
+    private static float[] getFloats(String s, int start, int end, PathScanner scanner) {
+        if (s.charAt(start) == 'z' || s.charAt(start) == 'Z') {
             return new float[0];
         }
         try {
-            float[] results = new float[s.length()];
-            int count = 0;
-            int startPosition = 1;
-            ExtractFloatResult result = new ExtractFloatResult();
-            int totalLength = s.length();
-            while (startPosition < totalLength) {
-                extract(s, startPosition, result);
-                int endPosition = result.mEndPosition;
+            scanner.mCount = 0;
+            int startPosition = start + 1;
+            while (startPosition < end) {
+                extract(s, startPosition, end, scanner);
+                int endPosition = scanner.mEndPosition;
                 if (startPosition < endPosition) {
-                    int count2 = count + 1;
-                    results[count] = Float.parseFloat(s.substring(startPosition, endPosition));
-                    count = count2;
+                    scanner.add(parseFloat(s, startPosition, endPosition));
                 }
-                if (result.mEndWithNegOrDot != 0) {
+                if (scanner.mEndWithNegOrDot) {
                     startPosition = endPosition;
                 } else {
                     startPosition = endPosition + 1;
                 }
             }
-            return copyOfRange(results, 0, count);
+            return copyOfRange(scanner.mBuffer, 0, scanner.mCount);
         } catch (NumberFormatException e) {
             StringBuilder sb = new StringBuilder();
             sb.append("error in parsing \"");
-            sb.append(s);
+            sb.append(s, start, end);
             sb.append("\"");
             throw new RuntimeException(sb.toString(), e);
         }
     }
 
-    /* JADX WARNING: Removed duplicated region for block: B:20:0x003b A[LOOP:0: B:1:0x0007->B:20:0x003b, LOOP_END] */
-    /* JADX WARNING: Removed duplicated region for block: B:24:0x003e A[SYNTHETIC] */
-    /* Code decompiled incorrectly, please refer to instructions dump. */
-    private static void extract(java.lang.String r7, int r8, androidx.core.graphics.PathParser.ExtractFloatResult r9) {
-        /*
-            r0 = r8
-            r1 = 0
-            r2 = 0
-            r9.mEndWithNegOrDot = r2
-            r2 = 0
-            r3 = 0
-        L_0x0007:
-            int r4 = r7.length()
-            if (r0 >= r4) goto L_0x003e
-            r4 = r3
-            r3 = 0
-            char r5 = r7.charAt(r0)
-            r6 = 32
-            if (r5 == r6) goto L_0x0036
-            r6 = 69
-            if (r5 == r6) goto L_0x0034
-            r6 = 101(0x65, float:1.42E-43)
-            if (r5 == r6) goto L_0x0034
-            r6 = 1
-            switch(r5) {
-                case 44: goto L_0x0036;
-                case 45: goto L_0x002c;
-                case 46: goto L_0x0024;
-                default: goto L_0x0023;
+    private static void extract(String s, int start, int end, PathScanner result) {
+        boolean foundSeparator = false;
+        result.mEndWithNegOrDot = false;
+        boolean secondDot = false;
+        boolean isExponential = false;
+        int currentIndex = start;
+        while (currentIndex < end) {
+            boolean isPrevExponential = isExponential;
+            isExponential = false;
+            char currentChar = s.charAt(currentIndex);
+            if (currentChar == ' ' || currentChar == ',') {
+                foundSeparator = true;
+            } else if (currentChar == 'E' || currentChar == 'e') {
+                isExponential = true;
+            } else if (currentChar != '-') {
+                if (currentChar == '.') {
+                    if (!secondDot) {
+                        secondDot = true;
+                    } else {
+                        foundSeparator = true;
+                        result.mEndWithNegOrDot = true;
+                    }
+                }
+            } else if (currentIndex != start && !isPrevExponential) {
+                foundSeparator = true;
+                result.mEndWithNegOrDot = true;
+            }
+            if (foundSeparator) {
+                break;
+            }
+            currentIndex++;
+        }
+        result.mEndPosition = currentIndex;
+    }
+
+    private static float parseFloat(String s, int start, int end) {
+        int i = start;
+        boolean negative = false;
+        char c = s.charAt(i);
+        if (c == '-' || c == '+') {
+            negative = c == '-';
+            i++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int pendingZeros = 0;
+        int exponent = 0;
+        boolean seenDigit = false;
+        boolean seenDot = false;
+        while (i < end) {
+            char c2 = s.charAt(i);
+            if (c2 >= '0' && c2 <= '9') {
+                seenDigit = true;
+                if (c2 == '0') {
+                    pendingZeros++;
+                } else if (mantissa == 0) {
+                    mantissa = (long) (c2 - '0');
+                    digits = 1;
+                    pendingZeros = 0;
+                } else {
+                    digits += pendingZeros + 1;
+                    if (digits > 18) {
+                        return Float.parseFloat(s.substring(start, end));
+                    }
+                    while (pendingZeros > 0) {
+                        mantissa *= 10;
+                        pendingZeros--;
+                    }
+                    mantissa = (10 * mantissa) + ((long) (c2 - '0'));
+                }
+                if (seenDot) {
+                    exponent--;
+                }
+            } else if (c2 != '.' || seenDot) {
+                break;
+            } else {
+                seenDot = true;
+            }
+            i++;
+        }
+        if (i < end && seenDigit && (s.charAt(i) == 'e' || s.charAt(i) == 'E')) {
+            int i2 = i + 1;
+            boolean negativeExponent = false;
+            if (i2 < end && (s.charAt(i2) == '-' || s.charAt(i2) == '+')) {
+                negativeExponent = s.charAt(i2) == '-';
+                i2++;
+            }
+            int explicitExponent = 0;
+            int exponentStart = i2;
+            while (i2 < end && s.charAt(i2) >= '0' && s.charAt(i2) <= '9') {
+                if (explicitExponent < 100000) {
+                    explicitExponent = (explicitExponent * 10) + (s.charAt(i2) - '0');
+                }
+                i2++;
             }
-        L_0x0023:
-            goto L_0x0038
-        L_0x0024:
-            if (r2 != 0) goto L_0x0028
-            r2 = 1
-            goto L_0x0038
-        L_0x0028:
-            r1 = 1
-            r9.mEndWithNegOrDot = r6
-            goto L_0x0038
-        L_0x002c:
-            if (r0 == r8) goto L_0x0038
-            if (r4 != 0) goto L_0x0038
-            r1 = 1
-            r9.mEndWithNegOrDot = r6
-            goto L_0x0038
-        L_0x0034:
-            r3 = 1
-            goto L_0x0038
-        L_0x0036:
-            r1 = 1
-        L_0x0038:
-            if (r1 == 0) goto L_0x003b
-            goto L_0x003e
-        L_0x003b:
-            int r0 = r0 + 1
-            goto L_0x0007
-        L_0x003e:
-            r9.mEndPosition = r0
-            return
-        */
-        throw new UnsupportedOperationException("Method not decompiled: androidx.core.graphics.PathParser.extract(java.lang.String, int, androidx.core.graphics.PathParser$ExtractFloatResult):void");
+            if (i2 == exponentStart) {
+                return Float.parseFloat(s.substring(start, end));
+            }
+            exponent += negativeExponent ? -explicitExponent : explicitExponent;
+            i = i2;
+        }
+        if (i != end || !seenDigit) {
+            return Float.parseFloat(s.substring(start, end));
+        }
+        if (mantissa != 0) {
+            exponent += pendingZeros;
+        }
+        float value;
+        if (mantissa == 0) {
+            value = 0.0f;
+        } else if (mantissa > 16777216 || exponent < -10 || exponent > 10) {
+            return Float.parseFloat(s.substring(start, end));
+        } else if (exponent < 0) {
+            value = ((float) mantissa) / POWERS_OF_TEN[-exponent];
+        } else {
+            value = ((float) mantissa) * POWERS_OF_TEN[exponent];
+        }
+        return negative ? -value : value;
     }
 
     private PathParser() {
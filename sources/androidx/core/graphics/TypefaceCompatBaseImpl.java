@@ -76,9 +76,17 @@ class TypefaceCompatBaseImpl {
         if (fonts.length < 1) {
             return null;
         }
+        FontInfo best = findBestInfo(fonts, style);
+        File cached = FontFileCache.getInstance(context).getUriFont(best.getUri());
+        if (cached != null) {
+            try {
+                return Typeface.createFromFile(cached.getPath());
+            } catch (RuntimeException e) {
+            }
+        }
         InputStream is = null;
         try {
-            is = context.getContentResolver().openInputStream(findBestInfo(fonts, style).getUri());
+            is = context.getContentResolver().openInputStream(best.getUri());
             return createFromInputStream(context, is);
         } catch (IOException e) {
             return null;
@@ -108,6 +116,13 @@ class TypefaceCompatBaseImpl {
     }
 
     public Typeface createFromResourcesFontFile(Context context, Resources resources, int id, String path, int style) {
+        File cached = FontFileCache.getInstance(context).getResourceFont(resources, id);
+        if (cached != null) {
+            try {
+                return Typeface.createFromFile(cached.getPath());
+            } catch (RuntimeException e) {
+            }
+        }
         File tmpFile = TypefaceCompatUtil.getTempFile(context);
         if (tmpFile == null) {
             return null;
@@ -8,10 +8,13 @@ import android.os.StrictMode.ThreadPolicy;
 import android.util.Log;
 import java.io.Closeable;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
 
 public class TypefaceCompatUtil {
     private static final String CACHE_FILE_PREFIX = ".font";
@@ -47,45 +50,17 @@ public class TypefaceCompatUtil {
         return null;
     }
 
-    /* JADX WARNING: Code restructure failed: missing block: B:10:0x001b, code lost:
-        r2 = move-exception;
-     */
-    /* JADX WARNING: Code restructure failed: missing block: B:12:?, code lost:
-        r0.close();
-     */
-    /* JADX WARNING: Code restructure failed: missing block: B:16:0x0024, code lost:
-        throw r2;
-     */
-    /* Code decompiled incorrectly, please refer to instructions dump. */
-    private static java.nio.ByteBuffer mmap(java.io.File r7) {
-        /*
-            java.io.FileInputStream r0 = new java.io.FileInputStream     // Catch:{ IOException -> 0x0025 }
-            r0.<init>(r7)     // Catch:{ IOException -> 0x0025 }
-            java.nio.channels.FileChannel r1 = r0.getChannel()     // Catch:{ all -> 0x0019 }
-            long r5 = r1.size()     // Catch:{ all -> 0x0019 }
-            java.nio.channels.FileChannel$MapMode r2 = java.nio.channels.FileChannel.MapMode.READ_ONLY     // Catch:{ all -> 0x0019 }
-            r3 = 0
-            java.nio.MappedByteBuffer r2 = r1.map(r2, r3, r5)     // Catch:{ all -> 0x0019 }
-            r0.close()     // Catch:{ IOException -> 0x0025 }
-            return r2
-        L_0x0019:
-            r1 = move-exception
-            throw r1     // Catch:{ all -> 0x001b }
-        L_0x001b:
-            r2 = move-exception
-            r0.close()     // Catch:{ all -> 0x0020 }
-            goto L_0x0024
-        L_0x0020:
-            r3 = move-exception
-            r1.addSuppressed(r3)     // Catch:{ IOException -> 0x0025 }
-        L_0x0024:
-            throw r2     // Catch:{ IOException -> 0x0025 }
-        L_0x0025:
-            r0 = move-exception
-            r1 = 0
-            return r1
-        */
-        throw new UnsupportedOperationException("Method not decompiled: androidx.core.graphics.TypefaceCompatUtil.mmap(java.io.File):java.nio.ByteBuffer");
+    static ByteBuffer mmap(File file) {
+        FileInputStream fis = null;
+        try {
+            fis = new FileInputStream(file);
+            FileChannel channel = fis.getChannel();
+            return channel.map(MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException e) {
+            return null;
+        } finally {
+            closeQuietly(fis);
+        }
     }
 
     /* JADX WARNING: Code restructure failed: missing block: B:19:0x0036, code lost:
@@ -168,6 +143,13 @@ public class TypefaceCompatUtil {
     }
 
     public static ByteBuffer copyToDirectBuffer(Context context, Resources res, int id) {
+        File cached = FontFileCache.getInstance(context).getResourceFont(res, id);
+        if (cached != null) {
+            ByteBuffer buffer = mmap(cached);
+            if (buffer != null) {
+                return buffer;
+            }
+        }
         File tmpFile = getTempFile(context);
         ByteBuffer byteBuffer = null;
         if (tmpFile == null) {
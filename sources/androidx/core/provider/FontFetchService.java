@@ -0,0 +1,483 @@
+package androidx.core.provider;
+
+import android.content.Context;
+import android.content.pm.PackageManager.NameNotFoundException;
+import android.content.pm.ProviderInfo;
+import android.graphics.Typeface;
+import android.net.Uri;
+import android.os.Handler;
+import android.util.Base64;
+import android.util.Log;
+import androidx.arch.core.executor.PriorityTaskExecutor;
+import androidx.arch.core.executor.PriorityTaskExecutor.Lane;
+import androidx.core.content.res.ResourcesCompat.FontCallback;
+import androidx.core.graphics.TypefaceCompat;
+import androidx.core.graphics.TypefaceCompatUtil;
+import androidx.core.provider.FontsContractCompat.FontInfo;
+import androidx.core.provider.FontsContractCompat.TypefaceResult;
+import androidx.core.util.AtomicFile;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+public final class FontFetchService {
+    private static final long DEFAULT_MAX_AGE_MILLIS = 604800000;
+    private static final String FONT_DIR = "androidx.font_fetch";
+    private static final String FONT_SUFFIX = ".ttf";
+    private static final String INDEX_SUFFIX = ".idx";
+    private static final int INDEX_VERSION = 1;
+    private static final String TAG = "FontFetchService";
+    private static volatile FontFetchService sInstance;
+    private final Context mContext;
+    private final Executor mExecutor;
+    final ConcurrentHashMap<String, FamilyTask> mFamilies = new ConcurrentHashMap<>();
+    private final File mFontDir;
+    final ConcurrentHashMap<String, TypefaceTask> mInFlight = new ConcurrentHashMap<>();
+    private volatile long mMaxAgeMillis = DEFAULT_MAX_AGE_MILLIS;
+
+    static final class FamilyResult {
+        final FontInfo[] mFonts;
+        final int mResult;
+
+        FamilyResult(FontInfo[] fonts, int result) {
+            this.mFonts = fonts;
+            this.mResult = result;
+        }
+    }
+
+    private static final class Batch {
+        private static final ProviderInfo NOT_FOUND = new ProviderInfo();
+        private static final ProviderInfo WRONG_CERTIFICATES = new ProviderInfo();
+        private final ConcurrentHashMap<String, ProviderInfo> mProviders = new ConcurrentHashMap<>();
+
+        Batch() {
+        }
+
+        /* access modifiers changed from: 0000 */
+        public ProviderInfo resolve(Context context, FontRequest request) {
+            String key = providerKey(request);
+            ProviderInfo info = (ProviderInfo) this.mProviders.get(key);
+            if (info != null) {
+                return info;
+            }
+            try {
+                info = FontsContractCompat.getProvider(context.getPackageManager(), request, context.getResources());
+                if (info == null) {
+                    info = WRONG_CERTIFICATES;
+                }
+            } catch (NameNotFoundException e) {
+                info = NOT_FOUND;
+            }
+            ProviderInfo existing = (ProviderInfo) this.mProviders.putIfAbsent(key, info);
+            return existing != null ? existing : info;
+        }
+
+        private static String providerKey(FontRequest request) {
+            StringBuilder sb = new StringBuilder();
+            sb.append(request.getProviderAuthority());
+            sb.append("/");
+            sb.append(request.getProviderPackage());
+            sb.append("/");
+            List<List<byte[]>> certificates = request.getCertificates();
+            if (certificates != null) {
+                for (int i = 0; i < certificates.size(); i++) {
+                    List<byte[]> set = (List) certificates.get(i);
+                    for (int j = 0; j < set.size(); j++) {
+                        sb.append(Base64.encodeToString((byte[]) set.get(j), 2));
+                        sb.append(",");
+                    }
+                    sb.append(";");
+                }
+            } else {
+                sb.append("res:");
+                sb.append(request.getCertificatesArrayResId());
+            }
+            return sb.toString();
+        }
+    }
+
+    final class FamilyTask extends FutureTask<FamilyResult> {
+        final String mKey;
+
+        FamilyTask(String key, Callable<FamilyResult> callable) {
+            super(callable);
+            this.mKey = key;
+        }
+
+        /* access modifiers changed from: protected */
+        public void done() {
+            FontFetchService.this.mFamilies.remove(this.mKey, this);
+        }
+    }
+
+    final class TypefaceTask extends FutureTask<TypefaceResult> {
+        private final ArrayList<FontCallback> mCallbacks = new ArrayList<>();
+        private final ArrayList<Handler> mHandlers = new ArrayList<>();
+        final String mKey;
+        private boolean mReplied;
+
+        TypefaceTask(String key, Callable<TypefaceResult> callable) {
+            super(callable);
+            this.mKey = key;
+        }
+
+        /* access modifiers changed from: 0000 */
+        public void addCallback(FontCallback callback, Handler handler) {
+            synchronized (this) {
+                if (!this.mReplied) {
+                    this.mCallbacks.add(callback);
+                    this.mHandlers.add(handler);
+                    return;
+                }
+            }
+            reply(callback, handler, getResultQuietly());
+        }
+
+        /* access modifiers changed from: protected */
+        public void done() {
+            FontFetchService.this.mInFlight.remove(this.mKey, this);
+            TypefaceResult result = getResultQuietly();
+            synchronized (this) {
+                this.mReplied = true;
+            }
+            for (int i = 0; i < this.mCallbacks.size(); i++) {
+                reply((FontCallback) this.mCallbacks.get(i), (Handler) this.mHandlers.get(i), result);
+            }
+            this.mCallbacks.clear();
+            this.mHandlers.clear();
+        }
+
+        private TypefaceResult getResultQuietly() {
+            try {
+                return (TypefaceResult) get();
+            } catch (Exception e) {
+                return null;
+            }
+        }
+
+        private void reply(FontCallback callback, Handler handler, TypefaceResult result) {
+            if (result == null) {
+                callback.callbackFailAsync(-3, handler);
+            } else if (result.mResult == 0) {
+                callback.callbackSuccessAsync(result.mTypeface, handler);
+            } else {
+                callback.callbackFailAsync(result.mResult, handler);
+            }
+        }
+    }
+
+    private FontFetchService(Context context) {
+        this.mContext = context;
+        this.mExecutor = PriorityTaskExecutor.getInstance().getExecutor(Lane.IO);
+        this.mFontDir = new File(context.getFilesDir(), FONT_DIR);
+    }
+
+    public static FontFetchService getInstance(Context context) {
+        if (sInstance != null) {
+            return sInstance;
+        }
+        synchronized (FontFetchService.class) {
+            if (sInstance == null) {
+                Context appContext = context.getApplicationContext();
+                if (appContext == null) {
+                    appContext = context;
+                }
+                sInstance = new FontFetchService(appContext);
+            }
+        }
+        return sInstance;
+    }
+
+    public void setMaxAge(long maxAgeMillis) {
+        this.mMaxAgeMillis = maxAgeMillis;
+    }
+
+    public void prefetch(List<FontRequest> requests, int style) {
+        Batch batch = new Batch();
+        for (int i = 0; i < requests.size(); i++) {
+            submit((FontRequest) requests.get(i), style, batch);
+        }
+    }
+
+    public Typeface getFont(FontRequest request, int style, long timeoutMillis) throws InterruptedException {
+        TypefaceTask task = submit(request, style, new Batch());
+        try {
+            TypefaceResult result = (TypefaceResult) task.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            if (result != null) {
+                return result.mTypeface;
+            }
+            return null;
+        } catch (ExecutionException e) {
+            return null;
+        } catch (TimeoutException e2) {
+            return null;
+        }
+    }
+
+    public void clearDiskCache() {
+        File[] files = this.mFontDir.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+    }
+
+    /* access modifiers changed from: 0000 */
+    public void requestAsync(FontRequest request, int style, FontCallback callback, Handler handler) {
+        TypefaceTask task = submit(request, style, new Batch());
+        if (callback != null) {
+            task.addCallback(callback, handler);
+        }
+    }
+
+    /* access modifiers changed from: 0000 */
+    public TypefaceResult fetchNow(FontRequest request, int style) {
+        return loadTypeface(request, style, new Batch());
+    }
+
+    private TypefaceTask submit(final FontRequest request, final int style, final Batch batch) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(request.getIdentifier());
+        sb.append("-");
+        sb.append(style);
+        final String key = sb.toString();
+        TypefaceTask task = (TypefaceTask) this.mInFlight.get(key);
+        if (task != null) {
+            return task;
+        }
+        TypefaceTask task2 = new TypefaceTask(key, new Callable<TypefaceResult>() {
+            public TypefaceResult call() {
+                TypefaceResult result = FontFetchService.this.loadTypeface(request, style, batch);
+                if (result.mTypeface != null) {
+                    FontsContractCompat.sTypefaceCache.put(key, result.mTypeface);
+                }
+                return result;
+            }
+        });
+        TypefaceTask existing = (TypefaceTask) this.mInFlight.putIfAbsent(key, task2);
+        if (existing != null) {
+            return existing;
+        }
+        this.mExecutor.execute(task2);
+        return task2;
+    }
+
+    /* access modifiers changed from: 0000 */
+    public TypefaceResult loadTypeface(FontRequest request, int style, Batch batch) {
+        FamilyResult family = getFamily(request, batch);
+        if (family.mResult != 0) {
+            return new TypefaceResult(null, family.mResult);
+        }
+        Typeface typeface = TypefaceCompat.createFromFontInfo(this.mContext, null, family.mFonts, style);
+        return new TypefaceResult(typeface, typeface != null ? 0 : -3);
+    }
+
+    private FamilyResult getFamily(final FontRequest request, final Batch batch) {
+        final String key = diskKey(request.getIdentifier());
+        FamilyTask task = (FamilyTask) this.mFamilies.get(key);
+        if (task == null) {
+            FamilyTask task2 = new FamilyTask(key, new Callable<FamilyResult>() {
+                public FamilyResult call() {
+                    return FontFetchService.this.resolveFamily(key, request, batch);
+                }
+            });
+            task = (FamilyTask) this.mFamilies.putIfAbsent(key, task2);
+            if (task == null) {
+                task = task2;
+            }
+        }
+        task.run();
+        try {
+            return (FamilyResult) task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new FamilyResult(null, -3);
+        } catch (ExecutionException e2) {
+            return new FamilyResult(null, -3);
+        }
+    }
+
+    /* access modifiers changed from: 0000 */
+    public FamilyResult resolveFamily(String key, FontRequest request, Batch batch) {
+        FontInfo[] persisted = readIndex(key);
+        if (persisted != null) {
+            return new FamilyResult(persisted, 0);
+        }
+        ProviderInfo info = batch.resolve(this.mContext, request);
+        if (info == Batch.NOT_FOUND) {
+            return new FamilyResult(null, -1);
+        }
+        if (info == Batch.WRONG_CERTIFICATES) {
+            return new FamilyResult(null, -2);
+        }
+        FontInfo[] fonts = FontsContractCompat.getFontFromProvider(this.mContext, request, info.authority, null);
+        return new FamilyResult(persist(key, fonts), 0);
+    }
+
+    private FontInfo[] persist(String key, final FontInfo[] fonts) {
+        if (!this.mFontDir.isDirectory() && !this.mFontDir.mkdirs()) {
+            return fonts;
+        }
+        ArrayList<FutureTask<Boolean>> copies = new ArrayList<>(fonts.length);
+        final File[] files = new File[fonts.length];
+        boolean complete = fonts.length > 0;
+        for (int i = 0; i < fonts.length; i++) {
+            if (fonts[i].getResultCode() != 0) {
+                complete = false;
+            } else {
+                File file = new File(this.mFontDir, key + "_" + i + FONT_SUFFIX);
+                files[i] = file;
+                final int index = i;
+                FutureTask<Boolean> copy = new FutureTask<>(new Callable<Boolean>() {
+                    public Boolean call() {
+                        return Boolean.valueOf(FontFetchService.this.copyFont(fonts[index].getUri(), files[index]));
+                    }
+                });
+                copies.add(copy);
+                if (copies.size() > 1) {
+                    this.mExecutor.execute(copy);
+                }
+            }
+        }
+        for (int i2 = 0; i2 < copies.size(); i2++) {
+            FutureTask<Boolean> copy2 = (FutureTask) copies.get(i2);
+            copy2.run();
+            try {
+                complete &= ((Boolean) copy2.get()).booleanValue();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                complete = false;
+            } catch (ExecutionException e2) {
+                complete = false;
+            }
+        }
+        FontInfo[] result = new FontInfo[fonts.length];
+        for (int i3 = 0; i3 < fonts.length; i3++) {
+            FontInfo font = fonts[i3];
+            if (files[i3] == null || !files[i3].exists()) {
+                result[i3] = font;
+            } else {
+                result[i3] = new FontInfo(Uri.fromFile(files[i3]), font.getTtcIndex(), font.getWeight(), font.isItalic(), 0);
+            }
+        }
+        if (complete) {
+            writeIndex(key, result);
+        }
+        return result;
+    }
+
+    /* access modifiers changed from: 0000 */
+    public boolean copyFont(Uri uri, File file) {
+        InputStream is = null;
+        try {
+            is = this.mContext.getContentResolver().openInputStream(uri);
+            if (is != null && TypefaceCompatUtil.copyToFile(file, is)) {
+                return true;
+            }
+            file.delete();
+            return false;
+        } catch (IOException e) {
+            file.delete();
+            return false;
+        } finally {
+            TypefaceCompatUtil.closeQuietly(is);
+        }
+    }
+
+    private FontInfo[] readIndex(String key) {
+        AtomicFile index = new AtomicFile(new File(this.mFontDir, key + INDEX_SUFFIX));
+        if (!index.getBaseFile().exists()) {
+            return null;
+        }
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(index.readFully()));
+            if (in.readInt() != INDEX_VERSION) {
+                return null;
+            }
+            if (System.currentTimeMillis() - in.readLong() > this.mMaxAgeMillis) {
+                return null;
+            }
+            int count = in.readInt();
+            if (count <= 0) {
+                return null;
+            }
+            FontInfo[] fonts = new FontInfo[count];
+            for (int i = 0; i < count; i++) {
+                File file = new File(this.mFontDir, in.readUTF());
+                int ttcIndex = in.readInt();
+                int weight = in.readInt();
+                boolean italic = in.readBoolean();
+                if (!file.exists()) {
+                    return null;
+                }
+                fonts[i] = new FontInfo(Uri.fromFile(file), ttcIndex, weight, italic, 0);
+            }
+            return fonts;
+        } catch (IOException e) {
+            Log.w(TAG, "Unable to read font index", e);
+            return null;
+        }
+    }
+
+    private void writeIndex(String key, FontInfo[] fonts) {
+        ArrayList<FontInfo> persisted = new ArrayList<>(fonts.length);
+        for (FontInfo font : fonts) {
+            if ("file".equals(font.getUri().getScheme())) {
+                persisted.add(font);
+            }
+        }
+        AtomicFile index = new AtomicFile(new File(this.mFontDir, key + INDEX_SUFFIX));
+        FileOutputStream out = null;
+        try {
+            out = index.startWrite();
+            DataOutputStream data = new DataOutputStream(out);
+            data.writeInt(INDEX_VERSION);
+            data.writeLong(System.currentTimeMillis());
+            data.writeInt(persisted.size());
+            for (int i = 0; i < persisted.size(); i++) {
+                FontInfo font = (FontInfo) persisted.get(i);
+                data.writeUTF(new File(font.getUri().getPath()).getName());
+                data.writeInt(font.getTtcIndex());
+                data.writeInt(font.getWeight());
+                data.writeBoolean(font.isItalic());
+            }
+            data.flush();
+            index.finishWrite(out);
+        } catch (IOException e) {
+            Log.w(TAG, "Unable to write font index", e);
+            index.failWrite(out);
+        }
+    }
+
+    private static String diskKey(String identifier) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-1").digest(identifier.getBytes("UTF-8"));
+            StringBuilder sb = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                sb.append(Character.forDigit((b >> 4) & 15, 16));
+                sb.append(Character.forDigit(b & 15, 16));
+            }
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            return Integer.toHexString(identifier.hashCode());
+        } catch (IOException e2) {
+            return Integer.toHexString(identifier.hashCode());
+        }
+    }
+}
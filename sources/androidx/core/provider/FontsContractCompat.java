@@ -12,11 +12,10 @@ import android.os.CancellationSignal;
 import android.os.Handler;
 import android.provider.BaseColumns;
 import androidx.collection.LruCache;
-import androidx.collection.SimpleArrayMap;
 import androidx.core.content.res.FontResourcesParserCompat;
+import androidx.core.content.res.ResourcesCompat.FontCallback;
 import androidx.core.graphics.TypefaceCompat;
 import androidx.core.graphics.TypefaceCompatUtil;
-import androidx.core.provider.SelfDestructiveThread.ReplyCallback;
 import androidx.core.util.Preconditions;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
@@ -31,12 +30,10 @@ import java.util.List;
 import java.util.Map;
 
 public class FontsContractCompat {
-    private static final int BACKGROUND_THREAD_KEEP_ALIVE_DURATION_MS = 10000;
     public static final String PARCEL_FONT_RESULTS = "font_results";
     static final int RESULT_CODE_PROVIDER_NOT_FOUND = -1;
     static final int RESULT_CODE_WRONG_CERTIFICATES = -2;
     private static final String TAG = "FontsContractCompat";
-    private static final SelfDestructiveThread sBackgroundThread = new SelfDestructiveThread("fonts", 10, BACKGROUND_THREAD_KEEP_ALIVE_DURATION_MS);
     private static final Comparator<byte[]> sByteArrayComparator = new Comparator<byte[]>() {
         public int compare(byte[] l, byte[] r) {
             if (l.length != r.length) {
@@ -50,8 +47,6 @@ public class FontsContractCompat {
             return 0;
         }
     };
-    static final Object sLock = new Object();
-    static final SimpleArrayMap<String, ArrayList<ReplyCallback<TypefaceResult>>> sPendingReplies = new SimpleArrayMap<>();
     static final LruCache<String, Typeface> sTypefaceCache = new LruCache<>(16);
 
     public static final class Columns implements BaseColumns {
@@ -145,7 +140,7 @@ public class FontsContractCompat {
         }
     }
 
-    private static final class TypefaceResult {
+    static final class TypefaceResult {
         final int mResult;
         final Typeface mTypeface;
 
@@ -159,128 +154,44 @@ public class FontsContractCompat {
     }
 
     static TypefaceResult getFontInternal(Context context, FontRequest request, int style) {
-        try {
-            FontFamilyResult result = fetchFonts(context, null, request);
-            int i = -3;
-            if (result.getStatusCode() == 0) {
-                Typeface typeface = TypefaceCompat.createFromFontInfo(context, null, result.getFonts(), style);
-                if (typeface != null) {
-                    i = 0;
-                }
-                return new TypefaceResult(typeface, i);
-            }
-            if (result.getStatusCode() == 1) {
-                i = -2;
-            }
-            return new TypefaceResult(null, i);
-        } catch (NameNotFoundException e) {
-            return new TypefaceResult(null, -1);
-        }
+        return FontFetchService.getInstance(context).fetchNow(request, style);
     }
 
     public static void resetCache() {
         sTypefaceCache.evictAll();
     }
 
-    /* JADX WARNING: Code restructure failed: missing block: B:34:0x007c, code lost:
-        return r3;
-     */
-    /* JADX WARNING: Code restructure failed: missing block: B:38:0x008d, code lost:
-        sBackgroundThread.postAndReply(r2, new androidx.core.provider.FontsContractCompat.C01243());
-     */
-    /* JADX WARNING: Code restructure failed: missing block: B:39:0x0097, code lost:
-        return r3;
-     */
-    /* Code decompiled incorrectly, please refer to instructions dump. */
-    public static android.graphics.Typeface getFontSync(final android.content.Context r8, final androidx.core.provider.FontRequest r9, final androidx.core.content.res.ResourcesCompat.FontCallback r10, final android.os.Handler r11, boolean r12, int r13, final int r14) {
-        /*
-            java.lang.StringBuilder r0 = new java.lang.StringBuilder
-            r0.<init>()
-            java.lang.String r1 = r9.getIdentifier()
-            r0.append(r1)
-            java.lang.String r1 = "-"
-            r0.append(r1)
-            r0.append(r14)
-            java.lang.String r0 = r0.toString()
-            androidx.collection.LruCache<java.lang.String, android.graphics.Typeface> r1 = sTypefaceCache
-            java.lang.Object r1 = r1.get(r0)
-            android.graphics.Typeface r1 = (android.graphics.Typeface) r1
-            if (r1 == 0) goto L_0x0028
-            if (r10 == 0) goto L_0x0027
-            r10.onFontRetrieved(r1)
-        L_0x0027:
-            return r1
-        L_0x0028:
-            if (r12 == 0) goto L_0x0045
-            r2 = -1
-            if (r13 != r2) goto L_0x0045
-            androidx.core.provider.FontsContractCompat$TypefaceResult r2 = getFontInternal(r8, r9, r14)
-            if (r10 == 0) goto L_0x0042
-            int r3 = r2.mResult
-            if (r3 != 0) goto L_0x003d
-            android.graphics.Typeface r3 = r2.mTypeface
-            r10.callbackSuccessAsync(r3, r11)
-            goto L_0x0042
-        L_0x003d:
-            int r3 = r2.mResult
-            r10.callbackFailAsync(r3, r11)
-        L_0x0042:
-            android.graphics.Typeface r3 = r2.mTypeface
-            return r3
-        L_0x0045:
-            androidx.core.provider.FontsContractCompat$1 r2 = new androidx.core.provider.FontsContractCompat$1
-            r2.<init>(r8, r9, r14, r0)
-            r3 = 0
-            if (r12 == 0) goto L_0x005a
-            androidx.core.provider.SelfDestructiveThread r4 = sBackgroundThread     // Catch:{ InterruptedException -> 0x0058 }
-            java.lang.Object r4 = r4.postAndWait(r2, r13)     // Catch:{ InterruptedException -> 0x0058 }
-            androidx.core.provider.FontsContractCompat$TypefaceResult r4 = (androidx.core.provider.FontsContractCompat.TypefaceResult) r4     // Catch:{ InterruptedException -> 0x0058 }
-            android.graphics.Typeface r3 = r4.mTypeface     // Catch:{ InterruptedException -> 0x0058 }
-            return r3
-        L_0x0058:
-            r4 = move-exception
-            return r3
-        L_0x005a:
-            if (r10 != 0) goto L_0x005e
-            r4 = r3
-            goto L_0x0063
-        L_0x005e:
-            androidx.core.provider.FontsContractCompat$2 r4 = new androidx.core.provider.FontsContractCompat$2
-            r4.<init>(r10, r11)
-        L_0x0063:
-            java.lang.Object r5 = sLock
-            monitor-enter(r5)
-            androidx.collection.SimpleArrayMap<java.lang.String, java.util.ArrayList<androidx.core.provider.SelfDestructiveThread$ReplyCallback<androidx.core.provider.FontsContractCompat$TypefaceResult>>> r6 = sPendingReplies     // Catch:{ all -> 0x0098 }
-            boolean r6 = r6.containsKey(r0)     // Catch:{ all -> 0x0098 }
-            if (r6 == 0) goto L_0x007d
-            if (r4 == 0) goto L_0x007b
-            androidx.collection.SimpleArrayMap<java.lang.String, java.util.ArrayList<androidx.core.provider.SelfDestructiveThread$ReplyCallback<androidx.core.provider.FontsContractCompat$TypefaceResult>>> r6 = sPendingReplies     // Catch:{ all -> 0x0098 }
-            java.lang.Object r6 = r6.get(r0)     // Catch:{ all -> 0x0098 }
-            java.util.ArrayList r6 = (java.util.ArrayList) r6     // Catch:{ all -> 0x0098 }
-            r6.add(r4)     // Catch:{ all -> 0x0098 }
-        L_0x007b:
-            monitor-exit(r5)     // Catch:{ all -> 0x0098 }
-            return r3
-        L_0x007d:
-            if (r4 == 0) goto L_0x008c
-            java.util.ArrayList r6 = new java.util.ArrayList     // Catch:{ all -> 0x0098 }
-            r6.<init>()     // Catch:{ all -> 0x0098 }
-            r6.add(r4)     // Catch:{ all -> 0x0098 }
-            androidx.collection.SimpleArrayMap<java.lang.String, java.util.ArrayList<androidx.core.provider.SelfDestructiveThread$ReplyCallback<androidx.core.provider.FontsContractCompat$TypefaceResult>>> r7 = sPendingReplies     // Catch:{ all -> 0x0098 }
-            r7.put(r0, r6)     // Catch:{ all -> 0x0098 }
-        L_0x008c:
-            monitor-exit(r5)     // Catch:{ all -> 0x0098 }
-            androidx.core.provider.SelfDestructiveThread r5 = sBackgroundThread
-            androidx.core.provider.FontsContractCompat$3 r6 = new androidx.core.provider.FontsContractCompat$3
-            r6.<init>(r0)
-            r5.postAndReply(r2, r6)
-            return r3
-        L_0x0098:
-            r3 = move-exception
-            monitor-exit(r5)     // Catch:{ all -> 0x0098 }
-            throw r3
-        */
-        throw new UnsupportedOperationException("Method not decompiled: androidx.core.provider.FontsContractCompat.getFontSync(android.content.Context, androidx.core.provider.FontRequest, androidx.core.content.res.ResourcesCompat$FontCallback, android.os.Handler, boolean, int, int):android.graphics.Typeface");
+    public static Typeface getFontSync(Context context, FontRequest request, FontCallback fontCallback, Handler handler, boolean isBlockingFetch, int timeout, int style) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(request.getIdentifier());
+        sb.append("-");
+        sb.append(style);
+        Typeface cached = (Typeface) sTypefaceCache.get(sb.toString());
+        if (cached != null) {
+            if (fontCallback != null) {
+                fontCallback.onFontRetrieved(cached);
+            }
+            return cached;
+        } else if (isBlockingFetch && timeout == -1) {
+            TypefaceResult typefaceResult = getFontInternal(context, request, style);
+            if (fontCallback != null) {
+                if (typefaceResult.mResult == 0) {
+                    fontCallback.callbackSuccessAsync(typefaceResult.mTypeface, handler);
+                } else {
+                    fontCallback.callbackFailAsync(typefaceResult.mResult, handler);
+                }
+            }
+            return typefaceResult.mTypeface;
+        } else if (isBlockingFetch) {
+            try {
+                return FontFetchService.getInstance(context).getFont(request, style, (long) timeout);
+            } catch (InterruptedException e) {
+                return null;
+            }
+        } else {
+            FontFetchService.getInstance(context).requestAsync(request, style, fontCallback, handler);
+            return null;
+        }
     }
 
     public static void requestFont(final Context context, final FontRequest request, final FontRequestCallback callback, Handler handler) {
@@ -1,164 +0,0 @@
-package androidx.core.provider;
-
-import android.os.Handler;
-import android.os.Handler.Callback;
-import android.os.HandlerThread;
-import android.os.Message;
-import java.util.concurrent.Callable;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicReference;
-import java.util.concurrent.locks.Condition;
-import java.util.concurrent.locks.ReentrantLock;
-
-public class SelfDestructiveThread {
-    private static final int MSG_DESTRUCTION = 0;
-    private static final int MSG_INVOKE_RUNNABLE = 1;
-    private Callback mCallback = new Callback() {
-        public boolean handleMessage(Message msg) {
-            int i = msg.what;
-            if (i == 0) {
-                SelfDestructiveThread.this.onDestruction();
-                return true;
-            } else if (i != 1) {
-                return true;
-            } else {
-                SelfDestructiveThread.this.onInvokeRunnable((Runnable) msg.obj);
-                return true;
-            }
-        }
-    };
-    private final int mDestructAfterMillisec;
-    private int mGeneration;
-    private Handler mHandler;
-    private final Object mLock = new Object();
-    private final int mPriority;
-    private HandlerThread mThread;
-    private final String mThreadName;
-
-    public interface ReplyCallback<T> {
-        void onReply(T t);
-    }
-
-    public SelfDestructiveThread(String threadName, int priority, int destructAfterMillisec) {
-        this.mThreadName = threadName;
-        this.mPriority = priority;
-        this.mDestructAfterMillisec = destructAfterMillisec;
-        this.mGeneration = 0;
-    }
-
-    public boolean isRunning() {
-        boolean z;
-        synchronized (this.mLock) {
-            z = this.mThread != null;
-        }
-        return z;
-    }
-
-    public int getGeneration() {
-        int i;
-        synchronized (this.mLock) {
-            i = this.mGeneration;
-        }
-        return i;
-    }
-
-    private void post(Runnable runnable) {
-        synchronized (this.mLock) {
-            if (this.mThread == null) {
-                this.mThread = new HandlerThread(this.mThreadName, this.mPriority);
-                this.mThread.start();
-                this.mHandler = new Handler(this.mThread.getLooper(), this.mCallback);
-                this.mGeneration++;
-            }
-            this.mHandler.removeMessages(0);
-            this.mHandler.sendMessage(this.mHandler.obtainMessage(1, runnable));
-        }
-    }
-
-    public <T> void postAndReply(final Callable<T> callable, final ReplyCallback<T> reply) {
-        final Handler callingHandler = new Handler();
-        post(new Runnable() {
-            public void run() {
-                T t;
-                try {
-                    t = callable.call();
-                } catch (Exception e) {
-                    t = null;
-                }
-                final T result = t;
-                callingHandler.post(new Runnable() {
-                    public void run() {
-                        reply.onReply(result);
-                    }
-                });
-            }
-        });
-    }
-
-    public <T> T postAndWait(Callable<T> callable, int timeoutMillis) throws InterruptedException {
-        final ReentrantLock lock = new ReentrantLock();
-        Condition cond = lock.newCondition();
-        final AtomicReference<T> holder = new AtomicReference<>();
-        final AtomicBoolean running = new AtomicBoolean(true);
-        final Callable<T> callable2 = callable;
-        final Condition condition = cond;
-        C01393 r0 = new Runnable() {
-            public void run() {
-                try {
-                    holder.set(callable2.call());
-                } catch (Exception e) {
-                }
-                lock.lock();
-                try {
-                    running.set(false);
-                    condition.signal();
-                } finally {
-                    lock.unlock();
-                }
-            }
-        };
-        post(r0);
-        lock.lock();
-        try {
-            if (!running.get()) {
-                return holder.get();
-            }
-            long remaining = TimeUnit.MILLISECONDS.toNanos((long) timeoutMillis);
-            do {
-                try {
-                    remaining = cond.awaitNanos(remaining);
-                } catch (InterruptedException e) {
-                }
-                if (!running.get()) {
-                    T t = holder.get();
-                    lock.unlock();
-                    return t;
-                }
-            } while (remaining > 0);
-            throw new InterruptedException("timeout");
-        } finally {
-            lock.unlock();
-        }
-    }
-
-    /* access modifiers changed from: 0000 */
-    public void onInvokeRunnable(Runnable runnable) {
-        runnable.run();
-        synchronized (this.mLock) {
-            this.mHandler.removeMessages(0);
-            this.mHandler.sendMessageDelayed(this.mHandler.obtainMessage(0), (long) this.mDestructAfterMillisec);
-        }
-    }
-
-    /* access modifiers changed from: 0000 */
-    public void onDestruction() {
-        synchronized (this.mLock) {
-            if (!this.mHandler.hasMessages(1)) {
-                this.mThread.quit();
-                this.mThread = null;
-                this.mHandler = null;
-            }
-        }
-    }
-}
@@ -1,6 +1,9 @@
 package androidx.core.text;
 
 import android.text.SpannableStringBuilder;
+import android.text.Spanned;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Locale;
 
 public final class BidiFormatter {
@@ -21,10 +24,12 @@ public final class BidiFormatter {
     private static final char RLM = '‏';
     private static final String RLM_STRING = Character.toString(RLM);
     private final TextDirectionHeuristicCompat mDefaultTextDirectionHeuristicCompat;
+    private final DirectionCache mDirectionCache;
     private final int mFlags;
     private final boolean mIsRtlContext;
 
     public static final class Builder {
+        private int mDirectionCacheSize;
         private int mFlags;
         private boolean mIsRtlContext;
         private TextDirectionHeuristicCompat mTextDirectionHeuristicCompat;
@@ -61,15 +66,51 @@ public final class BidiFormatter {
             return this;
         }
 
+        public Builder setDirectionCacheSize(int size) {
+            if (size >= 0) {
+                this.mDirectionCacheSize = size;
+                return this;
+            }
+            throw new IllegalArgumentException("size < 0");
+        }
+
         private static BidiFormatter getDefaultInstanceFromContext(boolean isRtlContext) {
             return isRtlContext ? BidiFormatter.DEFAULT_RTL_INSTANCE : BidiFormatter.DEFAULT_LTR_INSTANCE;
         }
 
         public BidiFormatter build() {
-            if (this.mFlags == 2 && this.mTextDirectionHeuristicCompat == BidiFormatter.DEFAULT_TEXT_DIRECTION_HEURISTIC) {
+            if (this.mFlags == 2 && this.mTextDirectionHeuristicCompat == BidiFormatter.DEFAULT_TEXT_DIRECTION_HEURISTIC && this.mDirectionCacheSize == 0) {
                 return getDefaultInstanceFromContext(this.mIsRtlContext);
             }
-            return new BidiFormatter(this.mIsRtlContext, this.mFlags, this.mTextDirectionHeuristicCompat);
+            return new BidiFormatter(this.mIsRtlContext, this.mFlags, this.mTextDirectionHeuristicCompat, this.mDirectionCacheSize);
+        }
+    }
+
+    private static final class DirectionCache {
+        private final LinkedHashMap<String, Integer> mEntries = new LinkedHashMap<>(16, 0.75f, true);
+        private final int mMaxSize;
+
+        DirectionCache(int maxSize) {
+            this.mMaxSize = maxSize;
+        }
+
+        /* access modifiers changed from: 0000 */
+        public synchronized int get(String str) {
+            Integer dirs = (Integer) this.mEntries.get(str);
+            if (dirs != null) {
+                return dirs.intValue();
+            }
+            return -1;
+        }
+
+        /* access modifiers changed from: 0000 */
+        public synchronized void put(String str, int dirs) {
+            this.mEntries.put(str, Integer.valueOf(dirs));
+            Iterator<String> it = this.mEntries.keySet().iterator();
+            while (this.mEntries.size() > this.mMaxSize && it.hasNext()) {
+                it.next();
+                it.remove();
+            }
         }
     }
 
@@ -94,6 +135,60 @@ public final class BidiFormatter {
             this.length = text2.length();
         }
 
+        static int estimateDirs(CharSequence text2) {
+            byte dirType;
+            byte dirType2;
+            int length2 = text2.length();
+            int entryDir = 0;
+            int i = 0;
+            while (i < length2) {
+                char c = text2.charAt(i);
+                if (Character.isHighSurrogate(c)) {
+                    int codePoint = Character.codePointAt(text2, i);
+                    i += Character.charCount(codePoint);
+                    dirType2 = Character.getDirectionality(codePoint);
+                } else {
+                    i++;
+                    dirType2 = getCachedDirectionality(c);
+                }
+                if (dirType2 == 0) {
+                    entryDir = -1;
+                    break;
+                } else if (dirType2 == 1 || dirType2 == 2) {
+                    entryDir = 1;
+                    break;
+                } else if (dirType2 >= 14 && dirType2 <= 18) {
+                    DirectionalityEstimator estimator = new DirectionalityEstimator(text2, false);
+                    return packDirs(estimator.getEntryDir(), estimator.getExitDir());
+                }
+            }
+            if (entryDir == 0) {
+                return packDirs(0, 0);
+            }
+            int j = length2;
+            while (j > i) {
+                char c2 = text2.charAt(j - 1);
+                if (Character.isLowSurrogate(c2)) {
+                    int codePoint2 = Character.codePointBefore(text2, j);
+                    j -= Character.charCount(codePoint2);
+                    dirType = Character.getDirectionality(codePoint2);
+                } else {
+                    j--;
+                    dirType = getCachedDirectionality(c2);
+                }
+                if (dirType == 0) {
+                    return packDirs(entryDir, -1);
+                }
+                if (dirType == 1 || dirType == 2) {
+                    return packDirs(entryDir, 1);
+                }
+                if (dirType >= 14 && dirType <= 18) {
+                    return packDirs(entryDir, new DirectionalityEstimator(text2, false).getExitDir());
+                }
+            }
+            return packDirs(entryDir, entryDir);
+        }
+
         /* access modifiers changed from: 0000 */
         public int getEntryDir() {
             this.charIndex = 0;
@@ -394,9 +489,14 @@ public final class BidiFormatter {
     }
 
     BidiFormatter(boolean isRtlContext, int flags, TextDirectionHeuristicCompat heuristic) {
+        this(isRtlContext, flags, heuristic, 0);
+    }
+
+    BidiFormatter(boolean isRtlContext, int flags, TextDirectionHeuristicCompat heuristic, int directionCacheSize) {
         this.mIsRtlContext = isRtlContext;
         this.mFlags = flags;
         this.mDefaultTextDirectionHeuristicCompat = heuristic;
+        this.mDirectionCache = directionCacheSize > 0 ? new DirectionCache(directionCacheSize) : null;
     }
 
     public boolean isRtlContext() {
@@ -407,23 +507,23 @@ public final class BidiFormatter {
         return (this.mFlags & 2) != 0;
     }
 
-    private String markAfter(CharSequence str, TextDirectionHeuristicCompat heuristic) {
-        boolean isRtl = heuristic.isRtl(str, 0, str.length());
-        if (!this.mIsRtlContext && (isRtl || getExitDir(str) == 1)) {
+    private String markAfter(boolean isRtl, int dirs) {
+        int exitDir = unpackExitDir(dirs);
+        if (!this.mIsRtlContext && (isRtl || exitDir == 1)) {
             return LRM_STRING;
         }
-        if (!this.mIsRtlContext || (isRtl && getExitDir(str) != -1)) {
+        if (!this.mIsRtlContext || (isRtl && exitDir != -1)) {
             return "";
         }
         return RLM_STRING;
     }
 
-    private String markBefore(CharSequence str, TextDirectionHeuristicCompat heuristic) {
-        boolean isRtl = heuristic.isRtl(str, 0, str.length());
-        if (!this.mIsRtlContext && (isRtl || getEntryDir(str) == 1)) {
+    private String markBefore(boolean isRtl, int dirs) {
+        int entryDir = unpackEntryDir(dirs);
+        if (!this.mIsRtlContext && (isRtl || entryDir == 1)) {
             return LRM_STRING;
         }
-        if (!this.mIsRtlContext || (isRtl && getEntryDir(str) != -1)) {
+        if (!this.mIsRtlContext || (isRtl && entryDir != -1)) {
             return "";
         }
         return RLM_STRING;
@@ -441,17 +541,39 @@ public final class BidiFormatter {
         if (str == null) {
             return null;
         }
-        return unicodeWrap((CharSequence) str, heuristic, isolate).toString();
+        boolean isRtl = heuristic.isRtl(str, 0, str.length());
+        int dirs = getDirs(str, isRtl, isolate);
+        String before = (!getStereoReset() || !isolate) ? "" : markBefore(isRtl, dirs);
+        String after = isolate ? markAfter(isRtl, dirs) : "";
+        boolean embed = isRtl != this.mIsRtlContext;
+        if (!embed && before.length() == 0 && after.length() == 0) {
+            return str;
+        }
+        StringBuilder sb = new StringBuilder(str.length() + 3);
+        sb.append(before);
+        if (embed) {
+            sb.append(isRtl ? RLE : LRE);
+            sb.append(str);
+            sb.append(PDF);
+        } else {
+            sb.append(str);
+        }
+        sb.append(after);
+        return sb.toString();
     }
 
     public CharSequence unicodeWrap(CharSequence str, TextDirectionHeuristicCompat heuristic, boolean isolate) {
         if (str == null) {
             return null;
         }
+        if (!(str instanceof Spanned)) {
+            return unicodeWrap(str.toString(), heuristic, isolate);
+        }
         boolean isRtl = heuristic.isRtl(str, 0, str.length());
+        int dirs = getDirs(str, isRtl, isolate);
         SpannableStringBuilder result = new SpannableStringBuilder();
         if (getStereoReset() && isolate) {
-            result.append(markBefore(str, isRtl ? TextDirectionHeuristicsCompat.RTL : TextDirectionHeuristicsCompat.LTR));
+            result.append(markBefore(isRtl, dirs));
         }
         if (isRtl != this.mIsRtlContext) {
             result.append(isRtl ? RLE : LRE);
@@ -461,7 +583,7 @@ public final class BidiFormatter {
             result.append(str);
         }
         if (isolate) {
-            result.append(markAfter(str, isRtl ? TextDirectionHeuristicsCompat.RTL : TextDirectionHeuristicsCompat.LTR));
+            result.append(markAfter(isRtl, dirs));
         }
         return result;
     }
@@ -494,11 +616,32 @@ public final class BidiFormatter {
         return TextUtilsCompat.getLayoutDirectionFromLocale(locale) == 1;
     }
 
-    private static int getExitDir(CharSequence str) {
-        return new DirectionalityEstimator(str, false).getExitDir();
+    private int getDirs(CharSequence str, boolean isRtl, boolean isolate) {
+        if (!isolate || isRtl != this.mIsRtlContext) {
+            return 0;
+        }
+        DirectionCache cache = this.mDirectionCache;
+        if (cache == null || !(str instanceof String)) {
+            return DirectionalityEstimator.estimateDirs(str);
+        }
+        int dirs = cache.get((String) str);
+        if (dirs != -1) {
+            return dirs;
+        }
+        int dirs2 = DirectionalityEstimator.estimateDirs(str);
+        cache.put((String) str, dirs2);
+        return dirs2;
+    }
+
+    static int packDirs(int entryDir, int exitDir) {
+        return ((entryDir + 1) << 2) | (exitDir + 1);
+    }
+
+    private static int unpackEntryDir(int dirs) {
+        return (dirs >> 2) - 1;
     }
 
-    private static int getEntryDir(CharSequence str) {
-        return new DirectionalityEstimator(str, false).getEntryDir();
+    private static int unpackExitDir(int dirs) {
+        return (dirs & 3) - 1;
     }
 }
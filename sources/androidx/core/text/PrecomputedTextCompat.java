@@ -12,13 +12,14 @@ import android.text.TextDirectionHeuristics;
 import android.text.TextPaint;
 import android.text.TextUtils;
 import android.text.style.MetricAffectingSpan;
+import androidx.arch.core.executor.PriorityTaskExecutor;
+import androidx.arch.core.executor.PriorityTaskExecutor.Lane;
 import androidx.core.p003os.TraceCompat;
 import androidx.core.util.ObjectsCompat;
 import androidx.core.util.Preconditions;
 import java.util.ArrayList;
 import java.util.concurrent.Callable;
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.FutureTask;
 
@@ -355,7 +356,7 @@ public class PrecomputedTextCompat implements Spannable {
         if (executor == null) {
             synchronized (sLock) {
                 if (sExecutor == null) {
-                    sExecutor = Executors.newFixedThreadPool(1);
+                    sExecutor = PriorityTaskExecutor.getInstance().getExecutor(Lane.COMPUTE);
                 }
                 executor = sExecutor;
             }
@@ -0,0 +1,220 @@
+package androidx.core.text.util;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.text.Spannable;
+import android.text.style.URLSpan;
+import androidx.core.text.util.LinkifyCompat.LinkSpec;
+import java.util.ArrayList;
+
+public final class IncrementalLinkifier {
+    private static final long DEFAULT_FRAME_BUDGET_NANOS = 4000000;
+    private static final int MAX_WINDOW = 1024;
+    private int mDirtyCount;
+    private int[] mDirtyRanges = new int[8];
+    private long mFrameBudgetNanos = DEFAULT_FRAME_BUDGET_NANOS;
+    private final Handler mHandler = new Handler(Looper.getMainLooper());
+    private final ArrayList<LinkSpec> mLinks = new ArrayList<>();
+    private final int mMask;
+    private final Runnable mProcessRunnable = new Runnable() {
+        public void run() {
+            IncrementalLinkifier.this.mScheduled = false;
+            if (IncrementalLinkifier.this.mStarted && IncrementalLinkifier.this.process(IncrementalLinkifier.this.mFrameBudgetNanos)) {
+                IncrementalLinkifier.this.schedule();
+            }
+        }
+    };
+    /* access modifiers changed from: private */
+    public boolean mScheduled;
+    /* access modifiers changed from: private */
+    public boolean mStarted;
+    private final Spannable mText;
+
+    public IncrementalLinkifier(Spannable text, int mask) {
+        if (text == null) {
+            throw new NullPointerException("text must not be null");
+        } else if (mask == 0 || (mask & -4) != 0) {
+            throw new IllegalArgumentException("mask must be a combination of WEB_URLS and EMAIL_ADDRESSES");
+        } else {
+            this.mText = text;
+            this.mMask = mask;
+        }
+    }
+
+    public void setFrameBudget(long budgetNanos) {
+        if (budgetNanos > 0) {
+            this.mFrameBudgetNanos = budgetNanos;
+            return;
+        }
+        throw new IllegalArgumentException("budgetNanos <= 0");
+    }
+
+    public long getFrameBudget() {
+        return this.mFrameBudgetNanos;
+    }
+
+    public void start() {
+        this.mStarted = true;
+        schedule();
+    }
+
+    public void stop() {
+        this.mStarted = false;
+        this.mScheduled = false;
+        this.mHandler.removeCallbacks(this.mProcessRunnable);
+    }
+
+    public boolean hasPendingWork() {
+        return this.mDirtyCount > 0;
+    }
+
+    public void invalidateAll() {
+        this.mDirtyCount = 0;
+        invalidate(0, this.mText.length());
+    }
+
+    public void invalidate(int start, int end) {
+        if (start < 0 || end < start) {
+            StringBuilder sb = new StringBuilder();
+            sb.append("Invalid range: ");
+            sb.append(start);
+            sb.append("..");
+            sb.append(end);
+            throw new IndexOutOfBoundsException(sb.toString());
+        }
+        addDirtyRange(Math.max(0, start - 3), end);
+        schedule();
+    }
+
+    public void onTextChanged(int start, int before, int count) {
+        int delta = count - before;
+        int[] ranges = this.mDirtyRanges;
+        int size = this.mDirtyCount * 2;
+        for (int i = 0; i < size; i++) {
+            int pos = ranges[i];
+            if (pos >= start + before) {
+                ranges[i] = pos + delta;
+            } else if (pos > start) {
+                ranges[i] = start;
+            }
+        }
+        invalidate(start, start + count);
+    }
+
+    public boolean process(long budgetNanos) {
+        long deadline = System.nanoTime() + budgetNanos;
+        Spannable text = this.mText;
+        while (this.mDirtyCount > 0) {
+            int length = text.length();
+            int pos = Math.min(this.mDirtyRanges[0], length);
+            int start = pos;
+            while (start > 0 && !isSeparator(text.charAt(start - 1))) {
+                start--;
+            }
+            int end = Math.min(Math.min(this.mDirtyRanges[1], length), pos + MAX_WINDOW);
+            while (end < length && !isSeparator(text.charAt(end))) {
+                end++;
+            }
+            trimDirtyRanges(end < length ? end + 1 : Integer.MAX_VALUE);
+            linkifyWindow(start, end);
+            if (System.nanoTime() - deadline >= 0) {
+                break;
+            }
+        }
+        return this.mDirtyCount > 0;
+    }
+
+    /* access modifiers changed from: private */
+    public void schedule() {
+        if (this.mStarted && !this.mScheduled && this.mDirtyCount > 0) {
+            this.mScheduled = true;
+            this.mHandler.post(this.mProcessRunnable);
+        }
+    }
+
+    private static boolean isSeparator(char c) {
+        return c == ' ' || (c >= 9 && c <= 13);
+    }
+
+    private void linkifyWindow(int start, int end) {
+        Spannable text = this.mText;
+        ArrayList<LinkSpec> links = this.mLinks;
+        links.clear();
+        LinkifyCompat.gatherAutolinks(links, text, start, end, this.mMask);
+        LinkifyCompat.sortAndPrune(links, text);
+        URLSpan[] spans = (URLSpan[]) text.getSpans(start, end, URLSpan.class);
+        for (URLSpan span : spans) {
+            int spanStart = text.getSpanStart(span);
+            int spanEnd = text.getSpanEnd(span);
+            if (spanStart <= end && spanEnd >= start) {
+                LinkSpec link = findLink(links, spanStart, spanEnd, span.getURL());
+                if (link != null) {
+                    link.frameworkAddedSpan = span;
+                } else {
+                    text.removeSpan(span);
+                }
+            }
+        }
+        int size = links.size();
+        for (int i = 0; i < size; i++) {
+            LinkSpec link2 = (LinkSpec) links.get(i);
+            if (link2.frameworkAddedSpan == null) {
+                text.setSpan(new URLSpan(link2.url), link2.start, link2.end, 33);
+            }
+        }
+        links.clear();
+    }
+
+    private static LinkSpec findLink(ArrayList<LinkSpec> links, int start, int end, String url) {
+        int size = links.size();
+        for (int i = 0; i < size; i++) {
+            LinkSpec link = (LinkSpec) links.get(i);
+            if (link.start == start && link.end == end && link.frameworkAddedSpan == null && link.url.equals(url)) {
+                return link;
+            }
+        }
+        return null;
+    }
+
+    private void addDirtyRange(int start, int end) {
+        int[] ranges = this.mDirtyRanges;
+        int count = this.mDirtyCount;
+        int i = 0;
+        while (i < count && ranges[(i * 2) + 1] < start) {
+            i++;
+        }
+        int j = i;
+        while (j < count && ranges[j * 2] <= end) {
+            start = Math.min(start, ranges[j * 2]);
+            end = Math.max(end, ranges[(j * 2) + 1]);
+            j++;
+        }
+        int newCount = (count - (j - i)) + 1;
+        if (newCount * 2 > ranges.length) {
+            int[] grown = new int[(newCount * 4)];
+            System.arraycopy(ranges, 0, grown, 0, i * 2);
+            System.arraycopy(ranges, j * 2, grown, (i + 1) * 2, (count - j) * 2);
+            this.mDirtyRanges = grown;
+            ranges = grown;
+        } else {
+            System.arraycopy(ranges, j * 2, ranges, (i + 1) * 2, (count - j) * 2);
+        }
+        ranges[i * 2] = start;
+        ranges[(i * 2) + 1] = end;
+        this.mDirtyCount = newCount;
+    }
+
+    private void trimDirtyRanges(int end) {
+        int[] ranges = this.mDirtyRanges;
+        int count = this.mDirtyCount;
+        int i = 0;
+        while (i < count && ranges[(i * 2) + 1] < end) {
+            i++;
+        }
+        if (i < count && ranges[i * 2] < end) {
+            ranges[i * 2] = end;
+        }
+        System.arraycopy(ranges, i * 2, ranges, 0, (count - i) * 2);
+        this.mDirtyCount = count - i;
+    }
+}
@@ -11,7 +11,8 @@ import android.text.util.Linkify.MatchFilter;
 import android.text.util.Linkify.TransformFilter;
 import android.webkit.WebView;
 import android.widget.TextView;
-import androidx.core.util.PatternsCompat;
+import androidx.core.util.AutolinkScanner;
+import androidx.core.util.AutolinkScanner.Callback;
 import com.pritkathrotiya.thenews45.BuildConfig;
 import java.io.UnsupportedEncodingException;
 import java.lang.annotation.Retention;
@@ -42,7 +43,7 @@ public final class LinkifyCompat {
     };
     private static final String[] EMPTY_STRING = new String[0];
 
-    private static class LinkSpec {
+    static class LinkSpec {
         int end;
         URLSpan frameworkAddedSpan;
         int start;
@@ -71,13 +72,8 @@ public final class LinkifyCompat {
             Linkify.addLinks(text, 4);
         }
         ArrayList<LinkSpec> links = new ArrayList<>();
-        if ((mask & 1) != 0) {
-            ArrayList arrayList = links;
-            Spannable spannable = text;
-            gatherLinks(arrayList, spannable, PatternsCompat.AUTOLINK_WEB_URL, new String[]{"http://", "https://", "rtsp://"}, Linkify.sUrlMatchFilter, null);
-        }
-        if ((mask & 2) != 0) {
-            gatherLinks(links, text, PatternsCompat.AUTOLINK_EMAIL_ADDRESS, new String[]{"mailto:"}, null, null);
+        if ((mask & 3) != 0) {
+            gatherAutolinks(links, text, 0, text.length(), mask & 3);
         }
         if ((mask & 8) != 0) {
             gatherMapLinks(links, text);
@@ -224,6 +220,7 @@ public final class LinkifyCompat {
                     sb.append(url.substring(prefixes[i].length()));
                     url = sb.toString();
                 }
+                break;
             } else {
                 i++;
             }
@@ -252,6 +249,24 @@ public final class LinkifyCompat {
         }
     }
 
+    static void gatherAutolinks(final ArrayList<LinkSpec> links, final Spannable s, int start, int end, int mask) {
+        final String[] webSchemes = {"http://", "https://", "rtsp://"};
+        final String[] emailSchemes = {"mailto:"};
+        final ArrayList<LinkSpec> emailLinks = new ArrayList<>();
+        AutolinkScanner.scan(s, start, end, mask, new Callback() {
+            public void onMatch(int type, int start, int end) {
+                if (type != 1 || Linkify.sUrlMatchFilter.acceptMatch(s, start, end)) {
+                    LinkSpec spec = new LinkSpec();
+                    spec.url = makeUrl(s.subSequence(start, end).toString(), type == 1 ? webSchemes : emailSchemes, null, null);
+                    spec.start = start;
+                    spec.end = end;
+                    (type == 1 ? links : emailLinks).add(spec);
+                }
+            }
+        });
+        links.addAll(emailLinks);
+    }
+
     private static void applyLink(String url, int start, int end, Spannable text) {
         text.setSpan(new URLSpan(url), start, end, 33);
     }
@@ -307,6 +322,10 @@ public final class LinkifyCompat {
             spec.end = text.getSpanEnd(urlSpans[i]);
             links.add(spec);
         }
+        sortAndPrune(links, text);
+    }
+
+    static void sortAndPrune(ArrayList<LinkSpec> links, Spannable text) {
         Collections.sort(links, COMPARATOR);
         int len = links.size();
         int i2 = 0;
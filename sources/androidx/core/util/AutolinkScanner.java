@@ -0,0 +1,849 @@
+package androidx.core.util;
+
+public final class AutolinkScanner {
+    private static final int MAX_DOMAIN_LOOKAHEAD = 255;
+    private static final int MAX_EMAIL_LOCAL_LENGTH = 63;
+    private static final int MAX_LABEL_LENGTH = 62;
+    private static final int MAX_PORT_DIGITS = 5;
+    private static final int MAX_PUNYCODE_LENGTH = 59;
+    private static final int MAX_TLD_LENGTH = 63;
+    private static final int MAX_TLD_MATCHES = 16;
+    private static final int MAX_USER_INFO_PASSWORD = 25;
+    private static final int MAX_USER_INFO_USER = 64;
+    private static final String PATH_PUNCTUATION = ";/?:@&=#~-.+!*'(),_$";
+    private static final String[] SCHEMES = {"http", "https", "rtsp"};
+    private static final TrieNode TLD_TRIE = buildTldTrie();
+    public static final int TYPE_EMAIL_ADDRESS = 2;
+    public static final int TYPE_WEB_URL = 1;
+    private static final String USER_INFO_PUNCTUATION = "$-_.+!*'(),;?&=";
+    private int mEmailRunEnd = -1;
+    private int[] mFrames = new int[64];
+    private final int mLength;
+    private final int[] mPortEnds = new int[MAX_PORT_DIGITS];
+    private final int[] mPunycodeEnds = new int[MAX_PUNYCODE_LENGTH];
+    private int mRunEnd = -1;
+    private final CharSequence mText;
+    private final int[] mTldEnds = new int[MAX_TLD_MATCHES];
+    private final int[] mTldIndices = new int[MAX_TLD_MATCHES];
+    private long[] mVisited = new long[4];
+
+    public interface Callback {
+        void onMatch(int type, int start, int end);
+    }
+
+    private static final class TrieNode {
+        char[] mChars = new char[0];
+        TrieNode[] mChildren = new TrieNode[0];
+        int mIndex = -1;
+
+        TrieNode() {
+        }
+
+        /* access modifiers changed from: 0000 */
+        public TrieNode get(char c) {
+            char[] chars = this.mChars;
+            for (int i = 0; i < chars.length; i++) {
+                if (chars[i] == c) {
+                    return this.mChildren[i];
+                }
+            }
+            return null;
+        }
+
+        /* access modifiers changed from: 0000 */
+        public TrieNode getOrCreate(char c) {
+            TrieNode child = get(c);
+            if (child != null) {
+                return child;
+            }
+            int size = this.mChars.length;
+            char[] chars = new char[(size + 1)];
+            TrieNode[] children = new TrieNode[(size + 1)];
+            System.arraycopy(this.mChars, 0, chars, 0, size);
+            System.arraycopy(this.mChildren, 0, children, 0, size);
+            TrieNode child2 = new TrieNode();
+            chars[size] = c;
+            children[size] = child2;
+            this.mChars = chars;
+            this.mChildren = children;
+            return child2;
+        }
+    }
+
+    private AutolinkScanner(CharSequence text) {
+        this.mText = text;
+        this.mLength = text.length();
+    }
+
+    public static void scan(CharSequence text, int mask, Callback callback) {
+        scan(text, 0, text.length(), mask, callback);
+    }
+
+    public static void scan(CharSequence text, int start, int end, int mask, Callback callback) {
+        if (start < 0 || end > text.length() || start > end) {
+            throw new IndexOutOfBoundsException();
+        } else if ((mask & 3) != 0) {
+            new AutolinkScanner(text).scan(start, end, mask, callback);
+        }
+    }
+
+    private void scan(int start, int end, int mask, Callback callback) {
+        boolean webUrls = (mask & 1) != 0;
+        boolean emailAddresses = (mask & 2) != 0;
+        int webStart = start;
+        int emailStart = start;
+        int i = start;
+        while (i < end) {
+            int c = codePointAt(i);
+            if (webUrls && i >= webStart) {
+                int matchEnd = matchWebUrl(i, c);
+                if (matchEnd >= 0) {
+                    callback.onMatch(1, i, matchEnd);
+                    webStart = matchEnd;
+                }
+            }
+            if (emailAddresses && i >= emailStart) {
+                int matchEnd2 = matchEmailAddress(i, c);
+                if (matchEnd2 >= 0) {
+                    callback.onMatch(2, i, matchEnd2);
+                    emailStart = matchEnd2;
+                }
+            }
+            i += Character.charCount(c);
+        }
+    }
+
+    private int matchWebUrl(int start, int c) {
+        if (c == 104 || c == 72 || c == 114 || c == 82) {
+            int end = matchWithProtocol(start);
+            if (end >= 0) {
+                return end;
+            }
+        }
+        if (!isLabelChar(c)) {
+            return -1;
+        }
+        if (start >= this.mRunEnd) {
+            this.mRunEnd = skipLabelRun(start);
+        }
+        int i = this.mRunEnd;
+        if (i >= this.mLength || this.mText.charAt(i) != '.') {
+            return -1;
+        }
+        return matchWithoutProtocol(start);
+    }
+
+    private int matchWithProtocol(int start) {
+        int schemeEnd = matchScheme(start);
+        if (schemeEnd < 0 || !isWordBoundary(start)) {
+            return -1;
+        }
+        int userInfoEnd = matchUserInfo(schemeEnd);
+        if (userInfoEnd >= 0) {
+            int end = matchRelaxedDomain(userInfoEnd);
+            if (end >= 0) {
+                return end;
+            }
+        }
+        return matchRelaxedDomain(schemeEnd);
+    }
+
+    private int matchWithoutProtocol(int start) {
+        if (!isWordBoundary(start)) {
+            return -1;
+        }
+        if (start >= 3 && this.mText.charAt(start - 3) == ':' && this.mText.charAt(start - 2) == '/' && this.mText.charAt(start - 1) == '/') {
+            return -1;
+        }
+        int depth = 0;
+        int pos = start;
+        while (true) {
+            int next = nextHostLabel(pos);
+            if (next < 0) {
+                break;
+            }
+            pushFrame(depth, next, 0, 0, 0);
+            depth++;
+            pos = next;
+        }
+        for (int d = depth - 1; d >= 0; d--) {
+            int labelsEnd = this.mFrames[d * 4];
+            int count = matchIanaTlds(labelsEnd);
+            for (int i = 0; i < count; i++) {
+                int end = matchPortAndPath(this.mTldEnds[i]);
+                if (end >= 0) {
+                    return end;
+                }
+            }
+            int count2 = matchPunycodeTld(labelsEnd);
+            for (int i2 = count2 - 1; i2 >= 0; i2--) {
+                int end2 = matchPortAndPath(this.mPunycodeEnds[i2]);
+                if (end2 >= 0) {
+                    return end2;
+                }
+            }
+        }
+        return matchIpAddress(start);
+    }
+
+    private int matchIpAddress(int start) {
+        int lengths1 = octetLengths(start, 0);
+        for (int len1 = 3; len1 >= 1; len1--) {
+            if ((lengths1 & (1 << len1)) != 0 && isChar(start + len1, '.')) {
+                int second = start + len1 + 1;
+                int lengths2 = octetLengths(second, 1);
+                for (int len2 = 3; len2 >= 1; len2--) {
+                    if ((lengths2 & (1 << len2)) != 0 && isChar(second + len2, '.')) {
+                        int third = second + len2 + 1;
+                        int lengths3 = octetLengths(third, 1);
+                        for (int len3 = 3; len3 >= 1; len3--) {
+                            if ((lengths3 & (1 << len3)) != 0 && isChar(third + len3, '.')) {
+                                int fourth = third + len3 + 1;
+                                int lengths4 = octetLengths(fourth, 2);
+                                for (int len4 = 3; len4 >= 1; len4--) {
+                                    if ((lengths4 & (1 << len4)) != 0) {
+                                        int end = matchPortAndPath(fourth + len4);
+                                        if (end >= 0) {
+                                            return end;
+                                        }
+                                    }
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return -1;
+    }
+
+    private int octetLengths(int pos, int position) {
+        int c0 = digitAt(pos);
+        if (c0 < 0) {
+            return 0;
+        }
+        int c1 = digitAt(pos + 1);
+        int c2 = c1 >= 0 ? digitAt(pos + 2) : -1;
+        int lengths = 0;
+        if (c2 >= 0 && ((c0 == 2 && c1 == 5 && c2 <= 5) || ((c0 == 2 && c1 <= 4) || c0 <= 1))) {
+            lengths = 8;
+        }
+        if (c1 >= 0 && c0 >= 1) {
+            lengths |= 4;
+        }
+        if (c0 >= 1 || position != 0) {
+            return lengths | 2;
+        }
+        return lengths;
+    }
+
+    private int matchRelaxedDomain(int start) {
+        if (start < this.mLength && isLabelChar(codePointAt(start))) {
+            int limit = start;
+            while (limit < this.mLength) {
+                int c = codePointAt(limit);
+                if (!isLabelChar(c) && c != 95 && c != 45 && c != 46) {
+                    break;
+                }
+                limit += Character.charCount(c);
+            }
+            int words = ((limit - start) >> 6) + 1;
+            long[] jArr = this.mVisited;
+            if (jArr.length < words) {
+                this.mVisited = new long[Math.max(words, jArr.length * 2)];
+            } else {
+                for (int i = 0; i < words; i++) {
+                    this.mVisited[i] = 0;
+                }
+            }
+            pushLabelFrame(0, start);
+            int depth2 = 1;
+            while (depth2 > 0) {
+                int next = nextRelaxedLabel(depth2 - 1);
+                if (next < 0) {
+                    depth2--;
+                    if (depth2 > 0) {
+                        int pos = this.mFrames[depth2 * 4];
+                        int i2 = pos - start;
+                        long[] jArr2 = this.mVisited;
+                        int i3 = i2 >> 6;
+                        jArr2[i3] = jArr2[i3] | (1L << i2);
+                        int end = matchPortAndPath(pos);
+                        if (end >= 0) {
+                            return end;
+                        }
+                    }
+                } else {
+                    int i4 = next - start;
+                    if ((this.mVisited[i4 >> 6] & (1L << i4)) == 0) {
+                        pushLabelFrame(depth2, next);
+                        depth2++;
+                    }
+                }
+            }
+        }
+        return matchPortAndPath(start);
+    }
+
+    private void pushLabelFrame(int depth, int pos) {
+        if (pos >= this.mLength || !isLabelChar(codePointAt(pos))) {
+            pushFrame(depth, pos, 0, -1, 0);
+            return;
+        }
+        int c = codePointAt(pos);
+        int firstEnd = Character.charCount(c) + pos;
+        int labelEnd = firstEnd;
+        int p = firstEnd;
+        int count = 0;
+        while (count < MAX_LABEL_LENGTH && p < this.mLength) {
+            int c2 = codePointAt(p);
+            boolean isLabel = isLabelChar(c2);
+            if (!isLabel && c2 != 95 && c2 != 45) {
+                break;
+            }
+            p += Character.charCount(c2);
+            count++;
+            if (isLabel) {
+                labelEnd = p;
+            }
+        }
+        pushFrame(depth, pos, firstEnd, labelEnd, 0);
+    }
+
+    private int nextRelaxedLabel(int depth) {
+        int[] frames = this.mFrames;
+        int base = depth * 4;
+        int firstEnd = frames[base + 1];
+        int labelEnd = frames[base + 2];
+        if (labelEnd < firstEnd) {
+            return -1;
+        }
+        if (frames[base + 3] == 0) {
+            frames[base + 3] = 1;
+            if (isChar(labelEnd, '.') && labelEnd + 1 < this.mLength && !isWhitespace(codePointAt(labelEnd + 1))) {
+                return labelEnd + 1;
+            }
+        }
+        int next = labelEnd;
+        if (labelEnd == firstEnd) {
+            frames[base + 2] = -1;
+        } else {
+            int p = labelEnd;
+            while (true) {
+                p -= Character.charCount(Character.codePointBefore(this.mText, p));
+                if (p == firstEnd || isLabelChar(Character.codePointBefore(this.mText, p))) {
+                    break;
+                }
+            }
+            frames[base + 2] = p;
+        }
+        frames[base + 3] = 0;
+        return next;
+    }
+
+    private void pushFrame(int depth, int a, int b, int c, int d) {
+        int base = depth * 4;
+        int[] iArr = this.mFrames;
+        if (base + 4 > iArr.length) {
+            int[] frames = new int[(iArr.length * 2)];
+            System.arraycopy(iArr, 0, frames, 0, iArr.length);
+            this.mFrames = frames;
+        }
+        int[] iArr2 = this.mFrames;
+        iArr2[base] = a;
+        iArr2[base + 1] = b;
+        iArr2[base + 2] = c;
+        iArr2[base + 3] = d;
+    }
+
+    private int matchEmailAddress(int start, int c) {
+        if (!isEmailChar(c)) {
+            return -1;
+        }
+        if (start >= this.mEmailRunEnd) {
+            int p = start;
+            while (p < this.mLength) {
+                int c2 = codePointAt(p);
+                if (!isEmailChar(c2) && c2 != 46) {
+                    break;
+                }
+                p += Character.charCount(c2);
+            }
+            this.mEmailRunEnd = p;
+        }
+        if (!isChar(this.mEmailRunEnd, '@') || !isWordBoundary(start)) {
+            return -1;
+        }
+        int p2 = Character.charCount(c) + start;
+        int count = 0;
+        int last = c;
+        while (p2 < this.mLength) {
+            int c3 = codePointAt(p2);
+            if (!isEmailChar(c3) && c3 != 46) {
+                break;
+            }
+            count++;
+            if (count > MAX_EMAIL_LOCAL_LENGTH) {
+                return -1;
+            }
+            p2 += Character.charCount(c3);
+            last = c3;
+        }
+        if (last == 46 || p2 >= this.mLength || this.mText.charAt(p2) != '@') {
+            return -1;
+        }
+        int domainStart = p2 + 1;
+        if (!matchDomainLookahead(domainStart)) {
+            return -1;
+        }
+        int depth = 0;
+        int pos = domainStart;
+        while (true) {
+            int next = nextHostLabel(pos);
+            if (next < 0) {
+                break;
+            }
+            pushFrame(depth, next, 0, 0, 0);
+            depth++;
+            pos = next;
+        }
+        for (int d = depth - 1; d >= 0; d--) {
+            int labelsEnd = this.mFrames[d * 4];
+            int count2 = matchPunycodeTld(labelsEnd);
+            for (int i = count2 - 1; i >= 0; i--) {
+                if (isWordBoundary(this.mPunycodeEnds[i])) {
+                    return this.mPunycodeEnds[i];
+                }
+            }
+            int p3 = labelsEnd;
+            int count3 = 0;
+            while (count3 < MAX_TLD_LENGTH && p3 < this.mLength) {
+                int c4 = codePointAt(p3);
+                if (!isTldChar(c4)) {
+                    break;
+                }
+                p3 += Character.charCount(c4);
+                count3++;
+            }
+            while (count3 >= 2) {
+                if (isWordBoundary(p3)) {
+                    return p3;
+                }
+                p3 -= Character.charCount(Character.codePointBefore(this.mText, p3));
+                count3--;
+            }
+        }
+        return -1;
+    }
+
+    private boolean matchDomainLookahead(int start) {
+        int p = start;
+        int count = 0;
+        while (count < MAX_DOMAIN_LOOKAHEAD && p < this.mLength) {
+            int c = codePointAt(p);
+            if (isLineTerminator(c)) {
+                return false;
+            }
+            p += Character.charCount(c);
+            count++;
+            if (p >= this.mLength || isWhitespace(codePointAt(p)) || isEndOfInput(p)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int nextHostLabel(int pos) {
+        if (pos >= this.mLength) {
+            return -1;
+        }
+        int c = codePointAt(pos);
+        if (!isLabelChar(c)) {
+            return -1;
+        }
+        int p = Character.charCount(c) + pos;
+        int count = 0;
+        int last = c;
+        while (p < this.mLength) {
+            int c2 = codePointAt(p);
+            if (!isLabelChar(c2) && c2 != 95 && c2 != 45) {
+                break;
+            }
+            count++;
+            if (count > MAX_LABEL_LENGTH) {
+                return -1;
+            }
+            p += Character.charCount(c2);
+            last = c2;
+        }
+        if (!isLabelChar(last) || !isChar(p, '.')) {
+            return -1;
+        }
+        return p + 1;
+    }
+
+    private int matchIanaTlds(int start) {
+        TrieNode node = TLD_TRIE;
+        int count = 0;
+        int p = start;
+        while (p < this.mLength) {
+            TrieNode trieNode = node.get(this.mText.charAt(p));
+            node = trieNode;
+            if (trieNode == null) {
+                break;
+            }
+            p++;
+            if (node.mIndex >= 0 && count < MAX_TLD_MATCHES) {
+                int i = count;
+                while (i > 0 && this.mTldIndices[i - 1] > node.mIndex) {
+                    int[] iArr = this.mTldIndices;
+                    iArr[i] = iArr[i - 1];
+                    int[] iArr2 = this.mTldEnds;
+                    iArr2[i] = iArr2[i - 1];
+                    i--;
+                }
+                this.mTldIndices[i] = node.mIndex;
+                this.mTldEnds[i] = p;
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private int matchPunycodeTld(int start) {
+        if (start + 4 >= this.mLength || this.mText.charAt(start) != 'x' || this.mText.charAt(start + 1) != 'n' || this.mText.charAt(start + 2) != '-' || this.mText.charAt(start + 3) != '-') {
+            return 0;
+        }
+        int count = 0;
+        int p = start + 4;
+        int scanned = 0;
+        while (scanned < MAX_PUNYCODE_LENGTH && p < this.mLength) {
+            int c = codePointAt(p);
+            boolean isWord = isWordChar(c);
+            if (!isWord && c != 45) {
+                break;
+            }
+            p += Character.charCount(c);
+            scanned++;
+            if (isWord) {
+                this.mPunycodeEnds[count] = p;
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private int matchPortAndPath(int pos) {
+        if (isChar(pos, ':')) {
+            int p = pos + 1;
+            int count = 0;
+            while (count < MAX_PORT_DIGITS && p < this.mLength) {
+                int c = codePointAt(p);
+                if (!Character.isDigit(c)) {
+                    break;
+                }
+                p += Character.charCount(c);
+                this.mPortEnds[count] = p;
+                count++;
+            }
+            for (int i = count - 1; i >= 0; i--) {
+                int end = matchPath(this.mPortEnds[i]);
+                if (end >= 0) {
+                    return end;
+                }
+            }
+        }
+        return matchPath(pos);
+    }
+
+    private int matchPath(int pos) {
+        if (isChar(pos, '/') || isChar(pos, '?')) {
+            int last = -1;
+            int p = pos + 1;
+            while (true) {
+                if (isWordBoundary(p)) {
+                    last = p;
+                }
+                if (p >= this.mLength) {
+                    break;
+                }
+                int c = codePointAt(p);
+                if (isPathChar(c)) {
+                    p += Character.charCount(c);
+                } else if (c != 37 || p + 2 >= this.mLength || !isHexDigit(this.mText.charAt(p + 1)) || !isHexDigit(this.mText.charAt(p + 2))) {
+                    break;
+                } else {
+                    p += 3;
+                }
+            }
+            if (last >= 0) {
+                return last;
+            }
+        }
+        if (isWordBoundary(pos)) {
+            return pos;
+        }
+        return -1;
+    }
+
+    private int matchScheme(int start) {
+        for (String scheme : SCHEMES) {
+            int length = scheme.length();
+            if (start + length + 3 <= this.mLength) {
+                int i = 0;
+                while (i < length) {
+                    char c = this.mText.charAt(start + i);
+                    char expected = scheme.charAt(i);
+                    if ((c | ' ') != expected && (c != 383 || expected != 's')) {
+                        break;
+                    }
+                    i++;
+                }
+                if (i == length && this.mText.charAt(start + length) == ':' && this.mText.charAt(start + length + 1) == '/' && this.mText.charAt(start + length + 2) == '/') {
+                    return start + length + 3;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private int matchUserInfo(int start) {
+        int p = matchUserInfoUnits(start, MAX_USER_INFO_USER);
+        if (p < 0) {
+            return -1;
+        }
+        if (isChar(p, ':')) {
+            int password = matchUserInfoUnits(p + 1, MAX_USER_INFO_PASSWORD);
+            if (password >= 0 && isChar(password, '@')) {
+                return password + 1;
+            }
+        }
+        if (isChar(p, '@')) {
+            return p + 1;
+        }
+        return -1;
+    }
+
+    private int matchUserInfoUnits(int start, int max) {
+        int p = start;
+        int count = 0;
+        while (count < max && p < this.mLength) {
+            char c = this.mText.charAt(p);
+            if ((c < 128 && isAsciiLetterOrDigit(c)) || USER_INFO_PUNCTUATION.indexOf(c) >= 0) {
+                p++;
+            } else if (c != '%' || p + 2 >= this.mLength || !isHexDigit(this.mText.charAt(p + 1)) || !isHexDigit(this.mText.charAt(p + 2))) {
+                break;
+            } else {
+                p += 3;
+            }
+            count++;
+        }
+        if (count == 0) {
+            return -1;
+        }
+        return p;
+    }
+
+    private int skipLabelRun(int start) {
+        int p = start;
+        while (p < this.mLength) {
+            int c = codePointAt(p);
+            if (!isLabelChar(c) && c != 95 && c != 45) {
+                break;
+            }
+            p += Character.charCount(c);
+        }
+        return p;
+    }
+
+    private boolean isWordBoundary(int pos) {
+        if (pos == 0 || isEndOfInput(pos)) {
+            return true;
+        }
+        boolean isWord = false;
+        if (pos < this.mLength) {
+            int c = codePointAt(pos);
+            if (isIgnorable(c)) {
+                return false;
+            }
+            isWord = isWordChar(c);
+        }
+        boolean wasWord = false;
+        int p = pos;
+        while (true) {
+            if (p <= 0) {
+                break;
+            }
+            int c2 = Character.codePointBefore(this.mText, p);
+            p -= Character.charCount(c2);
+            if (!isIgnorable(c2)) {
+                wasWord = isWordChar(c2);
+                break;
+            }
+        }
+        if (isWord != wasWord) {
+            return true;
+        }
+        return false;
+    }
+
+    private boolean isEndOfInput(int pos) {
+        int remaining = this.mLength - pos;
+        if (remaining == 0) {
+            return true;
+        }
+        if (remaining == 1) {
+            char c = this.mText.charAt(pos);
+            if (!isLineTerminator(c)) {
+                return false;
+            }
+            if (c == 10 && pos > 0 && this.mText.charAt(pos - 1) == 13) {
+                return false;
+            }
+            return true;
+        } else if (remaining == 2 && this.mText.charAt(pos) == 13 && this.mText.charAt(pos + 1) == 10) {
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    private boolean isChar(int pos, char c) {
+        return pos < this.mLength && this.mText.charAt(pos) == c;
+    }
+
+    private int digitAt(int pos) {
+        if (pos >= this.mLength) {
+            return -1;
+        }
+        char c = this.mText.charAt(pos);
+        if (c < '0' || c > '9') {
+            return -1;
+        }
+        return c - '0';
+    }
+
+    private int codePointAt(int pos) {
+        return Character.codePointAt(this.mText, pos);
+    }
+
+    private static boolean isAsciiLetterOrDigit(int c) {
+        return (c >= 97 && c <= 122) || (c >= 65 && c <= 90) || (c >= 48 && c <= 57);
+    }
+
+    private static boolean isHexDigit(char c) {
+        return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+    }
+
+    private static boolean isUcsChar(int c) {
+        boolean z = false;
+        if (c < 160) {
+            return false;
+        }
+        if (c <= 55295) {
+            if (c != 160 && ((c < 8192 || c > 8202) && c != 8232 && c != 8233 && c != 8239 && c != 12288)) {
+                z = true;
+            }
+            return z;
+        } else if (c < 63744) {
+            return false;
+        } else {
+            if (c <= 65519) {
+                if (c <= 64975 || c >= 65008) {
+                    z = true;
+                }
+                return z;
+            } else if (c < 65536) {
+                return false;
+            } else {
+                if ((c < 917504 || c >= 921600) && c <= 983037 && (65535 & c) <= 65533) {
+                    z = true;
+                }
+                return z;
+            }
+        }
+    }
+
+    private static boolean isLabelChar(int c) {
+        return c < 128 ? isAsciiLetterOrDigit(c) : isUcsChar(c);
+    }
+
+    private static boolean isTldChar(int c) {
+        return c < 128 ? (c >= 97 && c <= 122) || (c >= 65 && c <= 90) : isUcsChar(c);
+    }
+
+    private static boolean isEmailChar(int c) {
+        return c < 128 ? isAsciiLetterOrDigit(c) || c == 43 || c == 45 || c == 95 || c == 37 || c == 39 : isUcsChar(c);
+    }
+
+    private static boolean isPathChar(int c) {
+        return c < 128 ? isAsciiLetterOrDigit(c) || PATH_PUNCTUATION.indexOf(c) >= 0 : isUcsChar(c);
+    }
+
+    private static boolean isWordChar(int c) {
+        if (c < 128) {
+            return isAsciiLetterOrDigit(c) || c == 95;
+        }
+        if (Character.isLetterOrDigit(c) || c == 8204 || c == 8205) {
+            return true;
+        }
+        switch (Character.getType(c)) {
+            case 6:
+            case 7:
+            case 8:
+            case 10:
+            case 23:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static boolean isIgnorable(int c) {
+        if (c < 128) {
+            return false;
+        }
+        int type = Character.getType(c);
+        return type == 6 || type == 7 || type == 16;
+    }
+
+    private static boolean isWhitespace(int c) {
+        return (c >= 9 && c <= 13) || c == 133 || (c >= 128 && Character.isSpaceChar(c)) || c == 32;
+    }
+
+    private static boolean isLineTerminator(int c) {
+        return (c >= 10 && c <= 13) || c == 133 || c == 8232 || c == 8233;
+    }
+
+    private static TrieNode buildTldTrie() {
+        TrieNode root = new TrieNode();
+        String[] alternatives = PatternsCompat.IANA_TOP_LEVEL_DOMAINS.replace("(?:", "").replace(")", "").replace("\\-", "-").split("\\|");
+        for (int i = 0; i < alternatives.length; i++) {
+            String tld = alternatives[i];
+            int open = tld.indexOf(91);
+            if (open < 0) {
+                insert(root, tld, i);
+            } else {
+                String prefix = tld.substring(0, open);
+                int close = tld.indexOf(93, open);
+                for (int j = open + 1; j < close; j++) {
+                    StringBuilder sb = new StringBuilder();
+                    sb.append(prefix);
+                    sb.append(tld.charAt(j));
+                    insert(root, sb.toString(), i);
+                }
+            }
+        }
+        return root;
+    }
+
+    private static void insert(TrieNode root, String tld, int index) {
+        TrieNode node = root;
+        for (int i = 0; i < tld.length(); i++) {
+            node = node.getOrCreate(tld.charAt(i));
+        }
+        if (node.mIndex < 0) {
+            node.mIndex = index;
+        }
+    }
+}
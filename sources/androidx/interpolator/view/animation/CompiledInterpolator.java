@@ -0,0 +1,227 @@
+package androidx.interpolator.view.animation;
+
+import android.view.animation.Interpolator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+public final class CompiledInterpolator implements Interpolator {
+    public static final int DEFAULT_SAMPLE_COUNT = 201;
+    private static final int CURVE_CUBIC = 1;
+    private static final int CURVE_QUAD = 0;
+    private static final int MAX_CACHE_SIZE = 128;
+    private static final int MAX_ITERATIONS = 64;
+    private static final LinkedHashMap<Object, CompiledInterpolator> sCache = new LinkedHashMap<>(16, 0.75f, true);
+    private final float mScale;
+    private final float[] mValues;
+
+    private static final class CurveKey {
+        private final int mHash;
+        final int mSampleCount;
+        final int mType;
+        final float mX1;
+        final float mX2;
+        final float mY1;
+        final float mY2;
+
+        CurveKey(int type, float x1, float y1, float x2, float y2, int sampleCount) {
+            this.mType = type;
+            this.mX1 = x1;
+            this.mY1 = y1;
+            this.mX2 = x2;
+            this.mY2 = y2;
+            this.mSampleCount = sampleCount;
+            this.mHash = (((((((((type * 31) + Float.floatToIntBits(x1)) * 31) + Float.floatToIntBits(y1)) * 31) + Float.floatToIntBits(x2)) * 31) + Float.floatToIntBits(y2)) * 31) + sampleCount;
+        }
+
+        public int hashCode() {
+            return this.mHash;
+        }
+
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CurveKey)) {
+                return false;
+            }
+            CurveKey other = (CurveKey) o;
+            return this.mType == other.mType && this.mSampleCount == other.mSampleCount && Float.floatToIntBits(this.mX1) == Float.floatToIntBits(other.mX1) && Float.floatToIntBits(this.mY1) == Float.floatToIntBits(other.mY1) && Float.floatToIntBits(this.mX2) == Float.floatToIntBits(other.mX2) && Float.floatToIntBits(this.mY2) == Float.floatToIntBits(other.mY2);
+        }
+    }
+
+    private CompiledInterpolator(float[] values) {
+        this.mValues = values;
+        this.mScale = (float) (values.length - 1);
+    }
+
+    public static CompiledInterpolator compile(Interpolator interpolator) {
+        return compile(interpolator, DEFAULT_SAMPLE_COUNT);
+    }
+
+    public static CompiledInterpolator compile(Interpolator interpolator, int sampleCount) {
+        if (interpolator instanceof CompiledInterpolator) {
+            CompiledInterpolator compiled = (CompiledInterpolator) interpolator;
+            if (compiled.mValues.length == sampleCount) {
+                return compiled;
+            }
+        }
+        checkSampleCount(sampleCount);
+        float[] values = new float[sampleCount];
+        float scale = (float) (sampleCount - 1);
+        for (int i = 0; i < sampleCount; i++) {
+            values[i] = interpolator.getInterpolation(((float) i) / scale);
+        }
+        return new CompiledInterpolator(values);
+    }
+
+    public static CompiledInterpolator compile(Object key, Interpolator interpolator, int sampleCount) {
+        CompiledInterpolator compiled = getCached(key);
+        if (compiled != null) {
+            return compiled;
+        }
+        return putIfAbsent(key, compile(interpolator, sampleCount));
+    }
+
+    public static CompiledInterpolator cubic(float controlX1, float controlY1, float controlX2, float controlY2) {
+        return cubic(controlX1, controlY1, controlX2, controlY2, DEFAULT_SAMPLE_COUNT);
+    }
+
+    public static CompiledInterpolator cubic(float controlX1, float controlY1, float controlX2, float controlY2, int sampleCount) {
+        CurveKey key = new CurveKey(CURVE_CUBIC, controlX1, controlY1, controlX2, controlY2, sampleCount);
+        CompiledInterpolator compiled = getCached(key);
+        if (compiled != null) {
+            return compiled;
+        }
+        checkSampleCount(sampleCount);
+        float p1 = controlX2 - controlX1;
+        float p2 = 1.0f - controlX2;
+        if (controlX1 < 0.0f || p2 < 0.0f || (p1 < 0.0f && p1 * p1 > controlX1 * p2)) {
+            throw new IllegalArgumentException("The Path cannot loop back on itself");
+        }
+        float[] values = new float[sampleCount];
+        float scale = (float) (sampleCount - 1);
+        for (int i = 0; i < sampleCount; i++) {
+            double t = solveCubic((double) (((float) i) / scale), (double) controlX1, (double) controlX2);
+            values[i] = (float) cubicAt(t, (double) controlY1, (double) controlY2);
+        }
+        return putIfAbsent(key, new CompiledInterpolator(values));
+    }
+
+    public static CompiledInterpolator quad(float controlX, float controlY) {
+        return quad(controlX, controlY, DEFAULT_SAMPLE_COUNT);
+    }
+
+    public static CompiledInterpolator quad(float controlX, float controlY, int sampleCount) {
+        CurveKey key = new CurveKey(CURVE_QUAD, controlX, controlY, 0.0f, 0.0f, sampleCount);
+        CompiledInterpolator compiled = getCached(key);
+        if (compiled != null) {
+            return compiled;
+        }
+        checkSampleCount(sampleCount);
+        if (controlX < 0.0f || controlX > 1.0f) {
+            throw new IllegalArgumentException("The Path cannot loop back on itself");
+        }
+        float[] values = new float[sampleCount];
+        float scale = (float) (sampleCount - 1);
+        double cx = (double) controlX;
+        double cy = (double) controlY;
+        for (int i = 0; i < sampleCount; i++) {
+            double x = (double) (((float) i) / scale);
+            double t = solveQuad(x, cx);
+            values[i] = (float) (((2.0d * (1.0d - t)) * t * cy) + (t * t));
+        }
+        return putIfAbsent(key, new CompiledInterpolator(values));
+    }
+
+    public static CompiledInterpolator getCached(Object key) {
+        CompiledInterpolator compiledInterpolator;
+        synchronized (sCache) {
+            compiledInterpolator = (CompiledInterpolator) sCache.get(key);
+        }
+        return compiledInterpolator;
+    }
+
+    public static void clearCache() {
+        synchronized (sCache) {
+            sCache.clear();
+        }
+    }
+
+    private static CompiledInterpolator putIfAbsent(Object key, CompiledInterpolator compiled) {
+        synchronized (sCache) {
+            CompiledInterpolator previous = (CompiledInterpolator) sCache.get(key);
+            if (previous != null) {
+                return previous;
+            }
+            sCache.put(key, compiled);
+            Iterator<Object> it = sCache.keySet().iterator();
+            while (sCache.size() > MAX_CACHE_SIZE && it.hasNext()) {
+                it.next();
+                it.remove();
+            }
+            return compiled;
+        }
+    }
+
+    public int getSampleCount() {
+        return this.mValues.length;
+    }
+
+    public float getInterpolation(float input) {
+        float[] fArr = this.mValues;
+        if (input <= 0.0f) {
+            return fArr[0];
+        }
+        if (input >= 1.0f) {
+            return fArr[fArr.length - 1];
+        }
+        float position = this.mScale * input;
+        int index = (int) position;
+        if (index >= fArr.length - 1) {
+            return fArr[fArr.length - 1];
+        }
+        float start = fArr[index];
+        return ((fArr[index + 1] - start) * (position - ((float) index))) + start;
+    }
+
+    private static void checkSampleCount(int sampleCount) {
+        if (sampleCount < 2) {
+            throw new IllegalArgumentException("sampleCount < 2");
+        }
+    }
+
+    private static double cubicAt(double t, double p1, double p2) {
+        double u = 1.0d - t;
+        return (((3.0d * u) * u) * t * p1) + (3.0d * u * t * t * p2) + (t * t * t);
+    }
+
+    private static double solveCubic(double x, double x1, double x2) {
+        double lo = 0.0d;
+        double hi = 1.0d;
+        double t = x;
+        for (int i = 0; i < MAX_ITERATIONS; i++) {
+            double error = cubicAt(t, x1, x2) - x;
+            if (Math.abs(error) < 1.0E-9d) {
+                return t;
+            }
+            if (error > 0.0d) {
+                hi = t;
+            } else {
+                lo = t;
+            }
+            double u = 1.0d - t;
+            double slope = (3.0d * u * u * x1) + (6.0d * u * t * (x2 - x1)) + (3.0d * t * t * (1.0d - x2));
+            double next = slope > 0.0d ? t - (error / slope) : -1.0d;
+            t = (next <= lo || next >= hi) ? (lo + hi) / 2.0d : next;
+        }
+        return t;
+    }
+
+    private static double solveQuad(double x, double cx) {
+        double denominator = Math.sqrt((cx * cx) + ((1.0d - (2.0d * cx)) * x)) + cx;
+        if (denominator == 0.0d) {
+            return 0.0d;
+        }
+        return x / denominator;
+    }
+}
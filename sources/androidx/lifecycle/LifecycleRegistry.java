@@ -12,6 +12,7 @@ import java.util.Map.Entry;
 public class LifecycleRegistry extends Lifecycle {
     private static final String LOG_TAG = "LifecycleRegistry";
     private int mAddingObserverCounter = 0;
+    private int mCoalescingDepth = 0;
     private boolean mHandlingEvent = false;
     private final WeakReference<LifecycleOwner> mLifecycleOwner;
     private boolean mNewEventOccurred = false;
@@ -107,9 +108,39 @@ public class LifecycleRegistry extends Lifecycle {
         moveToState(getStateAfter(event));
     }
 
+    public void beginCoalescing() {
+        this.mCoalescingDepth++;
+    }
+
+    public void endCoalescing() {
+        int i = this.mCoalescingDepth;
+        if (i > 0) {
+            this.mCoalescingDepth = i - 1;
+            if (this.mCoalescingDepth == 0) {
+                if (this.mHandlingEvent || this.mAddingObserverCounter != 0) {
+                    this.mNewEventOccurred = true;
+                    return;
+                }
+                this.mHandlingEvent = true;
+                sync();
+                this.mHandlingEvent = false;
+                return;
+            }
+            return;
+        }
+        throw new IllegalStateException("endCoalescing() called without a matching beginCoalescing()");
+    }
+
+    public boolean isCoalescing() {
+        return this.mCoalescingDepth != 0;
+    }
+
     private void moveToState(State next) {
         if (this.mState != next) {
             this.mState = next;
+            if (this.mCoalescingDepth != 0) {
+                return;
+            }
             if (this.mHandlingEvent || this.mAddingObserverCounter != 0) {
                 this.mNewEventOccurred = true;
                 return;
@@ -158,7 +189,7 @@ public class LifecycleRegistry extends Lifecycle {
                     popParentState();
                     targetState = calculateTargetState(observer);
                 }
-                if (!isReentrance) {
+                if (!isReentrance && this.mCoalescingDepth == 0) {
                     sync();
                 }
                 this.mAddingObserverCounter--;
@@ -1,5 +1,6 @@
 package androidx.lifecycle;
 
+import androidx.arch.core.util.Function;
 import com.pritkathrotiya.thenews45.BuildConfig;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
@@ -7,6 +8,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
@@ -14,7 +16,38 @@ public class Lifecycling {
     private static final int GENERATED_CALLBACK = 2;
     private static final int REFLECTIVE_CALLBACK = 1;
     private static Map<Class, Integer> sCallbackCache = new HashMap();
-    private static Map<Class, List<Constructor<? extends GeneratedAdapter>>> sClassToAdapters = new HashMap();
+    private static Map<Class, List<Function<Object, GeneratedAdapter>>> sClassToAdapters = new HashMap();
+    private static final Object sLock = new Object();
+    private static Map<Class, Function<Object, GeneratedAdapter>> sRegisteredAdapters = new HashMap();
+
+    private static class ConstructorAdapterFactory implements Function<Object, GeneratedAdapter> {
+        private final Constructor<? extends GeneratedAdapter> mConstructor;
+
+        ConstructorAdapterFactory(Constructor<? extends GeneratedAdapter> constructor) {
+            this.mConstructor = constructor;
+        }
+
+        public GeneratedAdapter apply(Object object) {
+            return Lifecycling.createGeneratedAdapter(this.mConstructor, object);
+        }
+    }
+
+    public static <T extends LifecycleObserver> void registerAdapter(Class<T> klass, Function<? super T, ? extends GeneratedAdapter> factory) {
+        if (klass == null || factory == null) {
+            throw new NullPointerException("klass and factory must not be null");
+        }
+        synchronized (sLock) {
+            Iterator<Class> it = sCallbackCache.keySet().iterator();
+            while (it.hasNext()) {
+                Class cached = (Class) it.next();
+                if (klass.isAssignableFrom(cached)) {
+                    it.remove();
+                    sClassToAdapters.remove(cached);
+                }
+            }
+            sRegisteredAdapters.put(klass, (Function) factory);
+        }
+    }
 
     static GenericLifecycleObserver getCallback(Object object) {
         if (object instanceof FullLifecycleObserver) {
@@ -24,21 +57,26 @@ public class Lifecycling {
             return (GenericLifecycleObserver) object;
         }
         Class<?> klass = object.getClass();
-        if (getObserverConstructorType(klass) != 2) {
+        List<Function<Object, GeneratedAdapter>> factories = null;
+        synchronized (sLock) {
+            if (getObserverConstructorType(klass) == 2) {
+                factories = (List) sClassToAdapters.get(klass);
+            }
+        }
+        if (factories == null) {
             return new ReflectiveGenericLifecycleObserver(object);
         }
-        List<Constructor<? extends GeneratedAdapter>> constructors = (List) sClassToAdapters.get(klass);
-        if (constructors.size() == 1) {
-            return new SingleGeneratedAdapterObserver(createGeneratedAdapter((Constructor) constructors.get(0), object));
+        if (factories.size() == 1) {
+            return new SingleGeneratedAdapterObserver((GeneratedAdapter) ((Function) factories.get(0)).apply(object));
         }
-        GeneratedAdapter[] adapters = new GeneratedAdapter[constructors.size()];
-        for (int i = 0; i < constructors.size(); i++) {
-            adapters[i] = createGeneratedAdapter((Constructor) constructors.get(i), object);
+        GeneratedAdapter[] adapters = new GeneratedAdapter[factories.size()];
+        for (int i = 0; i < factories.size(); i++) {
+            adapters[i] = (GeneratedAdapter) ((Function) factories.get(i)).apply(object);
         }
         return new CompositeGeneratedAdaptersObserver(adapters);
     }
 
-    private static GeneratedAdapter createGeneratedAdapter(Constructor<? extends GeneratedAdapter> constructor, Object object) {
+    static GeneratedAdapter createGeneratedAdapter(Constructor<? extends GeneratedAdapter> constructor, Object object) {
         try {
             return (GeneratedAdapter) constructor.newInstance(new Object[]{object});
         } catch (IllegalAccessException e) {
@@ -95,18 +133,23 @@ public class Lifecycling {
 
     private static int resolveObserverCallbackType(Class<?> klass) {
         Class<?>[] interfaces;
+        Function<Object, GeneratedAdapter> registered = (Function) sRegisteredAdapters.get(klass);
+        if (registered != null) {
+            sClassToAdapters.put(klass, Collections.singletonList(registered));
+            return 2;
+        }
         if (klass.getCanonicalName() == null) {
             return 1;
         }
         Constructor<? extends GeneratedAdapter> constructor = generatedConstructor(klass);
         if (constructor != null) {
-            sClassToAdapters.put(klass, Collections.singletonList(constructor));
+            sClassToAdapters.put(klass, Collections.singletonList(new ConstructorAdapterFactory(constructor)));
             return 2;
         } else if (ClassesInfoCache.sInstance.hasLifecycleMethods(klass)) {
             return 1;
         } else {
             Class<?> superclass = klass.getSuperclass();
-            List<Constructor<? extends GeneratedAdapter>> adapterConstructors = null;
+            List<Function<Object, GeneratedAdapter>> adapterConstructors = null;
             if (isLifecycleParent(superclass)) {
                 if (getObserverConstructorType(superclass) == 1) {
                     return 1;
@@ -6,15 +6,18 @@ import androidx.lifecycle.Lifecycle.Event;
 import androidx.lifecycle.Lifecycle.State;
 import java.util.Iterator;
 import java.util.Map.Entry;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 public abstract class LiveData<T> {
     static final Object NOT_SET = new Object();
+    private static final AtomicReferenceFieldUpdater<LiveData, Object> PENDING_DATA_UPDATER = AtomicReferenceFieldUpdater.newUpdater(LiveData.class, Object.class, "mPendingData");
     static final int START_VERSION = -1;
     int mActiveCount = 0;
     private volatile Object mData;
     final Object mDataLock = new Object();
     private boolean mDispatchInvalidated;
     private boolean mDispatchingValue;
+    LiveData<?> mNextBatched;
     private SafeIterableMap<Observer<? super T>, ObserverWrapper> mObservers = new SafeIterableMap<>();
     volatile Object mPendingData;
     private final Runnable mPostValueRunnable;
@@ -116,25 +119,19 @@ public abstract class LiveData<T> {
         this.mVersion = -1;
         this.mPostValueRunnable = new Runnable() {
             public void run() {
-                synchronized (LiveData.this.mDataLock) {
-                    try {
-                        Object newValue = LiveData.this.mPendingData;
-                        try {
-                            LiveData.this.mPendingData = LiveData.NOT_SET;
-                            LiveData.this.setValue(newValue);
-                        } catch (Throwable th) {
-                            th = th;
-                            throw th;
-                        }
-                    } catch (Throwable th2) {
-                        th = th2;
-                        throw th;
-                    }
-                }
+                LiveData.this.dispatchPendingValue();
             }
         };
     }
 
+    /* access modifiers changed from: 0000 */
+    public void dispatchPendingValue() {
+        Object newValue = PENDING_DATA_UPDATER.getAndSet(this, NOT_SET);
+        if (newValue != NOT_SET) {
+            setValue((T) newValue);
+        }
+    }
+
     private void considerNotify(ObserverWrapper observer) {
         if (observer.mActive) {
             if (!observer.shouldBeActive()) {
@@ -220,49 +217,14 @@ public abstract class LiveData<T> {
     }
 
     /* access modifiers changed from: protected */
-    /* JADX WARNING: Code restructure failed: missing block: B:10:0x000e, code lost:
-        if (r1 != false) goto L_0x0011;
-     */
-    /* JADX WARNING: Code restructure failed: missing block: B:11:0x0010, code lost:
-        return;
-     */
-    /* JADX WARNING: Code restructure failed: missing block: B:12:0x0011, code lost:
-        androidx.arch.core.executor.ArchTaskExecutor.getInstance().postToMainThread(r4.mPostValueRunnable);
-     */
-    /* JADX WARNING: Code restructure failed: missing block: B:13:0x001a, code lost:
-        return;
-     */
-    /* Code decompiled incorrectly, please refer to instructions dump. */
-    public void postValue(T r5) {
-        /*
-            r4 = this;
-            java.lang.Object r0 = r4.mDataLock
-            monitor-enter(r0)
-            r1 = 0
-            java.lang.Object r2 = r4.mPendingData     // Catch:{ all -> 0x001b }
-            java.lang.Object r3 = NOT_SET     // Catch:{ all -> 0x001b }
-            if (r2 != r3) goto L_0x000b
-            r1 = 1
-        L_0x000b:
-            r4.mPendingData = r5     // Catch:{ all -> 0x001e }
-            monitor-exit(r0)     // Catch:{ all -> 0x001e }
-            if (r1 != 0) goto L_0x0011
-            return
-        L_0x0011:
-            androidx.arch.core.executor.ArchTaskExecutor r0 = androidx.arch.core.executor.ArchTaskExecutor.getInstance()
-            java.lang.Runnable r2 = r4.mPostValueRunnable
-            r0.postToMainThread(r2)
-            return
-        L_0x001b:
-            r2 = move-exception
-        L_0x001c:
-            monitor-exit(r0)     // Catch:{ all -> 0x001e }
-            throw r2
-        L_0x001e:
-            r2 = move-exception
-            goto L_0x001c
-        */
-        throw new UnsupportedOperationException("Method not decompiled: androidx.lifecycle.LiveData.postValue(java.lang.Object):void");
+    public void postValue(T value) {
+        if (PENDING_DATA_UPDATER.getAndSet(this, value) == NOT_SET) {
+            if (PostValueBatcher.isEnabled()) {
+                PostValueBatcher.enqueue(this);
+            } else {
+                ArchTaskExecutor.getInstance().postToMainThread(this.mPostValueRunnable);
+            }
+        }
     }
 
     /* access modifiers changed from: protected */
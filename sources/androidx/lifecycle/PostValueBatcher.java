@@ -0,0 +1,53 @@
+package androidx.lifecycle;
+
+import androidx.arch.core.executor.ArchTaskExecutor;
+import java.util.concurrent.atomic.AtomicReference;
+
+public final class PostValueBatcher {
+    private static final Runnable sDispatchRunnable = new Runnable() {
+        public void run() {
+            PostValueBatcher.dispatchBatch();
+        }
+    };
+    private static volatile boolean sEnabled = false;
+    private static final AtomicReference<LiveData<?>> sPendingHead = new AtomicReference<>();
+
+    private PostValueBatcher() {
+    }
+
+    public static void setEnabled(boolean enabled) {
+        sEnabled = enabled;
+    }
+
+    public static boolean isEnabled() {
+        return sEnabled;
+    }
+
+    static void enqueue(LiveData<?> liveData) {
+        LiveData<?> head;
+        do {
+            head = (LiveData) sPendingHead.get();
+            liveData.mNextBatched = head;
+        } while (!sPendingHead.compareAndSet(head, liveData));
+        if (head == null) {
+            ArchTaskExecutor.getInstance().postToMainThread(sDispatchRunnable);
+        }
+    }
+
+    static void dispatchBatch() {
+        LiveData<?> node = (LiveData) sPendingHead.getAndSet(null);
+        LiveData<?> ordered = null;
+        while (node != null) {
+            LiveData<?> next = node.mNextBatched;
+            node.mNextBatched = ordered;
+            ordered = node;
+            node = next;
+        }
+        while (ordered != null) {
+            LiveData<?> next2 = ordered.mNextBatched;
+            ordered.mNextBatched = null;
+            ordered.dispatchPendingValue();
+            ordered = next2;
+        }
+    }
+}
@@ -1,6 +1,10 @@
 package androidx.lifecycle;
 
+import androidx.arch.core.executor.ArchTaskExecutor;
+import androidx.arch.core.util.BiFunction;
 import androidx.arch.core.util.Function;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 public class Transformations {
     private Transformations() {
@@ -42,4 +46,189 @@ public class Transformations {
         });
         return result;
     }
+
+    public static <X> LiveData<X> distinctUntilChanged(LiveData<X> source) {
+        final MediatorLiveData<X> result = new MediatorLiveData<>();
+        result.addSource(source, new Observer<X>() {
+            boolean mFirstTime = true;
+
+            public void onChanged(X currentValue) {
+                X previousValue = result.getValue();
+                if (this.mFirstTime || ((previousValue == null && currentValue != null) || (previousValue != null && !previousValue.equals(currentValue)))) {
+                    this.mFirstTime = false;
+                    result.setValue(currentValue);
+                }
+            }
+        });
+        return result;
+    }
+
+    public static <X> LiveData<X> debounce(LiveData<X> source, long timeoutMillis) {
+        if (timeoutMillis >= 0) {
+            MediatorLiveData<X> result = new MediatorLiveData<>();
+            result.addSource(source, new DebounceObserver<>(result, timeoutMillis));
+            return result;
+        }
+        throw new IllegalArgumentException("timeoutMillis must be >= 0");
+    }
+
+    public static <X> LiveData<X> throttleLatest(LiveData<X> source, long intervalMillis) {
+        if (intervalMillis >= 0) {
+            MediatorLiveData<X> result = new MediatorLiveData<>();
+            result.addSource(source, new ThrottleLatestObserver<>(result, intervalMillis));
+            return result;
+        }
+        throw new IllegalArgumentException("intervalMillis must be >= 0");
+    }
+
+    public static <X, Y> LiveData<Y> mapAsync(LiveData<X> source, Executor executor, Function<X, Y> mapFunction) {
+        MediatorLiveData<Y> result = new MediatorLiveData<>();
+        result.addSource(source, new AsyncMapper<>(executor, mapFunction, result));
+        return result;
+    }
+
+    public static <A, B, Y> LiveData<Y> combineLatest(LiveData<A> first, LiveData<B> second, final BiFunction<A, B, Y> combineFunction) {
+        final MediatorLiveData<Y> result = new MediatorLiveData<>();
+        final Object[] latest = {LiveData.NOT_SET, LiveData.NOT_SET};
+        result.addSource(first, new Observer<A>() {
+            public void onChanged(A a) {
+                Object[] objArr = latest;
+                objArr[0] = a;
+                if (objArr[1] != LiveData.NOT_SET) {
+                    result.setValue(combineFunction.apply(a, (B) objArr[1]));
+                }
+            }
+        });
+        result.addSource(second, new Observer<B>() {
+            public void onChanged(B b) {
+                Object[] objArr = latest;
+                objArr[1] = b;
+                if (objArr[0] != LiveData.NOT_SET) {
+                    result.setValue(combineFunction.apply((A) objArr[0], b));
+                }
+            }
+        });
+        return result;
+    }
+
+    private static class DebounceObserver<X> implements Observer<X> {
+        int mGeneration;
+        X mPending;
+        final MediatorLiveData<X> mResult;
+        final long mTimeoutMillis;
+
+        DebounceObserver(MediatorLiveData<X> result, long timeoutMillis) {
+            this.mResult = result;
+            this.mTimeoutMillis = timeoutMillis;
+        }
+
+        public void onChanged(X x) {
+            this.mPending = x;
+            int i = this.mGeneration + 1;
+            this.mGeneration = i;
+            final int generation = i;
+            ArchTaskExecutor.getInstance().postToMainThreadDelayed(new Runnable() {
+                public void run() {
+                    DebounceObserver.this.onTimeout(generation);
+                }
+            }, this.mTimeoutMillis);
+        }
+
+        /* access modifiers changed from: 0000 */
+        public void onTimeout(int generation) {
+            if (generation == this.mGeneration) {
+                X value = this.mPending;
+                this.mPending = null;
+                this.mResult.setValue(value);
+            }
+        }
+    }
+
+    private static class ThrottleLatestObserver<X> implements Observer<X> {
+        boolean mHasPending;
+        final long mIntervalMillis;
+        X mPending;
+        final MediatorLiveData<X> mResult;
+        private final Runnable mWindowEnd = new Runnable() {
+            public void run() {
+                ThrottleLatestObserver.this.onWindowEnd();
+            }
+        };
+        boolean mWindowOpen;
+
+        ThrottleLatestObserver(MediatorLiveData<X> result, long intervalMillis) {
+            this.mResult = result;
+            this.mIntervalMillis = intervalMillis;
+        }
+
+        public void onChanged(X x) {
+            if (this.mWindowOpen) {
+                this.mPending = x;
+                this.mHasPending = true;
+                return;
+            }
+            this.mWindowOpen = true;
+            this.mResult.setValue(x);
+            ArchTaskExecutor.getInstance().postToMainThreadDelayed(this.mWindowEnd, this.mIntervalMillis);
+        }
+
+        /* access modifiers changed from: 0000 */
+        public void onWindowEnd() {
+            if (this.mHasPending) {
+                X value = this.mPending;
+                this.mPending = null;
+                this.mHasPending = false;
+                this.mResult.setValue(value);
+                ArchTaskExecutor.getInstance().postToMainThreadDelayed(this.mWindowEnd, this.mIntervalMillis);
+                return;
+            }
+            this.mWindowOpen = false;
+        }
+    }
+
+    private static class AsyncMapper<X, Y> implements Observer<X> {
+        final AtomicBoolean mComputing = new AtomicBoolean(false);
+        final Executor mExecutor;
+        volatile X mInput;
+        final AtomicBoolean mInvalid = new AtomicBoolean(false);
+        final Function<X, Y> mMapFunction;
+        final Runnable mRefreshRunnable = new Runnable() {
+            public void run() {
+                do {
+                    boolean computed = false;
+                    if (AsyncMapper.this.mComputing.compareAndSet(false, true)) {
+                        Y value = null;
+                        try {
+                            while (AsyncMapper.this.mInvalid.compareAndSet(true, false)) {
+                                computed = true;
+                                value = AsyncMapper.this.mMapFunction.apply(AsyncMapper.this.mInput);
+                            }
+                        } finally {
+                            AsyncMapper.this.mComputing.set(false);
+                        }
+                        if (computed) {
+                            AsyncMapper.this.mResult.postValue(value);
+                        }
+                    }
+                    if (!computed) {
+                        return;
+                    }
+                } while (AsyncMapper.this.mInvalid.get());
+            }
+        };
+        final MediatorLiveData<Y> mResult;
+
+        AsyncMapper(Executor executor, Function<X, Y> mapFunction, MediatorLiveData<Y> result) {
+            this.mExecutor = executor;
+            this.mMapFunction = mapFunction;
+            this.mResult = result;
+        }
+
+        public void onChanged(X x) {
+            this.mInput = x;
+            if (this.mInvalid.compareAndSet(false, true)) {
+                this.mExecutor.execute(this.mRefreshRunnable);
+            }
+        }
+    }
 }
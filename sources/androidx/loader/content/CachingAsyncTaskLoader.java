@@ -0,0 +1,220 @@
+package androidx.loader.content;
+
+import android.content.Context;
+import android.os.Handler;
+import androidx.core.p003os.CancellationSignal;
+import androidx.core.p003os.OperationCanceledException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+public abstract class CachingAsyncTaskLoader<D> extends AsyncTaskLoader<D> {
+    private static final int DEFAULT_RESULT_CACHE_SIZE = 32;
+    private static final LinkedHashMap<ResultKey, Object> sResultCache = new LinkedHashMap<>(16, 0.75f, true);
+    private static int sResultCacheMaxSize = 32;
+    private CancellationSignal mCancellationSignal;
+    private long mCoalesceWindow;
+    private int mCoalescedChangeCount;
+    D mData;
+    private Handler mReloadHandler;
+    boolean mReloadScheduled;
+    private final Runnable mReloadRunnable = new Runnable() {
+        public void run() {
+            CachingAsyncTaskLoader cachingAsyncTaskLoader = CachingAsyncTaskLoader.this;
+            cachingAsyncTaskLoader.mReloadScheduled = false;
+            if (cachingAsyncTaskLoader.isStarted()) {
+                CachingAsyncTaskLoader.this.forceLoad();
+            } else {
+                CachingAsyncTaskLoader.super.onContentChanged();
+            }
+        }
+    };
+
+    private static final class ResultKey {
+        final Object mKey;
+        final Class<?> mLoaderClass;
+
+        ResultKey(Class<?> loaderClass, Object key) {
+            this.mLoaderClass = loaderClass;
+            this.mKey = key;
+        }
+
+        public int hashCode() {
+            return (this.mLoaderClass.hashCode() * 31) + this.mKey.hashCode();
+        }
+
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ResultKey)) {
+                return false;
+            }
+            ResultKey other = (ResultKey) o;
+            return this.mLoaderClass == other.mLoaderClass && this.mKey.equals(other.mKey);
+        }
+    }
+
+    public abstract Object getCacheKey();
+
+    public abstract D loadInBackground(CancellationSignal cancellationSignal);
+
+    public CachingAsyncTaskLoader(Context context) {
+        super(context);
+    }
+
+    public static void setResultCacheSize(int maxEntries) {
+        if (maxEntries > 0) {
+            synchronized (sResultCache) {
+                sResultCacheMaxSize = maxEntries;
+                trimResultCache();
+            }
+            return;
+        }
+        throw new IllegalArgumentException("maxEntries <= 0");
+    }
+
+    public static void clearResultCache() {
+        synchronized (sResultCache) {
+            sResultCache.clear();
+        }
+    }
+
+    private static void trimResultCache() {
+        Iterator<ResultKey> it = sResultCache.keySet().iterator();
+        while (sResultCache.size() > sResultCacheMaxSize && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    private ResultKey getResultKey() {
+        Object key = getCacheKey();
+        if (key != null) {
+            return new ResultKey(getClass(), key);
+        }
+        return null;
+    }
+
+    public void setCoalesceWindow(long windowMs) {
+        if (windowMs >= 0) {
+            this.mCoalesceWindow = windowMs;
+            if (windowMs != 0 && this.mReloadHandler == null) {
+                this.mReloadHandler = new Handler();
+                return;
+            }
+            return;
+        }
+        throw new IllegalArgumentException("windowMs must be >= 0");
+    }
+
+    public int getCoalescedChangeCount() {
+        return this.mCoalescedChangeCount;
+    }
+
+    public final D loadInBackground() {
+        CancellationSignal signal;
+        synchronized (this) {
+            if (!isLoadInBackgroundCanceled()) {
+                signal = new CancellationSignal();
+                this.mCancellationSignal = signal;
+            } else {
+                throw new OperationCanceledException();
+            }
+        }
+        try {
+            D loadInBackground = loadInBackground(signal);
+            synchronized (this) {
+                this.mCancellationSignal = null;
+            }
+            return loadInBackground;
+        } catch (Throwable th) {
+            synchronized (this) {
+                this.mCancellationSignal = null;
+                throw th;
+            }
+        }
+    }
+
+    public void cancelLoadInBackground() {
+        super.cancelLoadInBackground();
+        synchronized (this) {
+            if (this.mCancellationSignal != null) {
+                this.mCancellationSignal.cancel();
+            }
+        }
+    }
+
+    public void onContentChanged() {
+        ResultKey key = getResultKey();
+        if (key != null) {
+            synchronized (sResultCache) {
+                sResultCache.remove(key);
+            }
+        }
+        if (this.mCoalesceWindow <= 0) {
+            super.onContentChanged();
+        } else if (this.mReloadScheduled) {
+            this.mCoalescedChangeCount++;
+        } else {
+            this.mReloadScheduled = true;
+            this.mCoalescedChangeCount = 0;
+            this.mReloadHandler.postDelayed(this.mReloadRunnable, this.mCoalesceWindow);
+        }
+    }
+
+    public void deliverResult(D data) {
+        if (!isReset()) {
+            this.mData = data;
+            ResultKey key = getResultKey();
+            if (!(key == null || data == null)) {
+                synchronized (sResultCache) {
+                    sResultCache.put(key, data);
+                    trimResultCache();
+                }
+            }
+            if (isStarted()) {
+                super.deliverResult(data);
+            }
+        }
+    }
+
+    /* access modifiers changed from: protected */
+    public void onStartLoading() {
+        Object cached;
+        D d = this.mData;
+        if (d != null) {
+            deliverResult(d);
+        } else {
+            ResultKey key = getResultKey();
+            if (key != null) {
+                synchronized (sResultCache) {
+                    cached = sResultCache.get(key);
+                }
+                if (cached != null) {
+                    this.mData = (D) cached;
+                    super.deliverResult((D) cached);
+                }
+            }
+        }
+        if (takeContentChanged() || this.mData == null) {
+            forceLoad();
+        }
+    }
+
+    /* access modifiers changed from: protected */
+    public void onStopLoading() {
+        cancelLoad();
+    }
+
+    /* access modifiers changed from: protected */
+    public void onReset() {
+        super.onReset();
+        onStopLoading();
+        if (this.mReloadScheduled) {
+            this.mReloadScheduled = false;
+            this.mReloadHandler.removeCallbacks(this.mReloadRunnable);
+        }
+        this.mCoalescedChangeCount = 0;
+        this.mData = null;
+    }
+}
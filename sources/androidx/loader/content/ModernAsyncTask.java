@@ -6,41 +6,24 @@ import android.os.Looper;
 import android.os.Message;
 import android.os.Process;
 import android.util.Log;
-import java.util.concurrent.BlockingQueue;
+import androidx.arch.core.executor.PriorityTaskExecutor;
+import androidx.arch.core.executor.PriorityTaskExecutor.Lane;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.FutureTask;
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.ThreadFactory;
-import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicInteger;
 
 abstract class ModernAsyncTask<Params, Progress, Result> {
-    private static final int CORE_POOL_SIZE = 5;
-    private static final int KEEP_ALIVE = 1;
     private static final String LOG_TAG = "AsyncTask";
-    private static final int MAXIMUM_POOL_SIZE = 128;
     private static final int MESSAGE_POST_PROGRESS = 2;
     private static final int MESSAGE_POST_RESULT = 1;
-    public static final Executor THREAD_POOL_EXECUTOR;
+    public static final Executor THREAD_POOL_EXECUTOR = PriorityTaskExecutor.getInstance().getExecutor(Lane.IO);
     private static volatile Executor sDefaultExecutor = THREAD_POOL_EXECUTOR;
     private static InternalHandler sHandler;
-    private static final BlockingQueue<Runnable> sPoolWorkQueue = new LinkedBlockingQueue(10);
-    private static final ThreadFactory sThreadFactory = new ThreadFactory() {
-        private final AtomicInteger mCount = new AtomicInteger(1);
-
-        public Thread newThread(Runnable r) {
-            StringBuilder sb = new StringBuilder();
-            sb.append("ModernAsyncTask #");
-            sb.append(this.mCount.getAndIncrement());
-            return new Thread(r, sb.toString());
-        }
-    };
     final AtomicBoolean mCancelled = new AtomicBoolean();
     private final FutureTask<Result> mFuture = new FutureTask<Result>(this.mWorker) {
         /* access modifiers changed from: protected */
@@ -136,11 +119,6 @@ abstract class ModernAsyncTask<Params, Progress, Result> {
     /* access modifiers changed from: protected */
     public abstract Result doInBackground(Params... paramsArr);
 
-    static {
-        ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(5, 128, 1, TimeUnit.SECONDS, sPoolWorkQueue, sThreadFactory);
-        THREAD_POOL_EXECUTOR = threadPoolExecutor;
-    }
-
     private static Handler getHandler() {
         InternalHandler internalHandler;
         synchronized (ModernAsyncTask.class) {
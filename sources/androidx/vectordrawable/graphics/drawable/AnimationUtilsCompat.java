@@ -19,6 +19,7 @@ import android.view.animation.DecelerateInterpolator;
 import android.view.animation.Interpolator;
 import android.view.animation.LinearInterpolator;
 import android.view.animation.OvershootInterpolator;
+import androidx.interpolator.view.animation.CompiledInterpolator;
 import androidx.interpolator.view.animation.FastOutLinearInInterpolator;
 import androidx.interpolator.view.animation.FastOutSlowInInterpolator;
 import androidx.interpolator.view.animation.LinearOutSlowInInterpolator;
@@ -82,6 +83,20 @@ public class AnimationUtilsCompat {
         }
     }
 
+    public static Interpolator loadCompiledInterpolator(Context context, int id) throws NotFoundException {
+        StringBuilder sb = new StringBuilder();
+        sb.append("@");
+        sb.append(Integer.toHexString(id));
+        String key = sb.toString();
+        CompiledInterpolator compiled = CompiledInterpolator.getCached(key);
+        if (compiled != null) {
+            return compiled;
+        }
+        return CompiledInterpolator.compile(key, loadInterpolator(context, id), CompiledInterpolator.DEFAULT_SAMPLE_COUNT);
+    }
+        return CompiledInterpolator.compile(key, loadInterpolator(context, id), CompiledInterpolator.DEFAULT_SAMPLE_COUNT);
+    }
+
     private static Interpolator createInterpolatorFromXml(Context context, Resources res, Theme theme, XmlPullParser parser) throws XmlPullParserException, IOException {
         Interpolator interpolator = null;
         int depth = parser.getDepth();
@@ -0,0 +1,17 @@
+package androidx.vectordrawable.graphics.drawable;
+
+final class CompiledVector {
+    private static final int REF_BYTES = 16;
+    final byte[] mData;
+    final Object[] mRefs;
+
+    CompiledVector(byte[] data, Object[] refs) {
+        this.mData = data;
+        this.mRefs = refs;
+    }
+
+    /* access modifiers changed from: 0000 */
+    public int getByteCount() {
+        return this.mData.length + (this.mRefs.length * REF_BYTES);
+    }
+}
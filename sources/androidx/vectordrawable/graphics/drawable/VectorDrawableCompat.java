@@ -28,21 +28,28 @@ import android.graphics.drawable.VectorDrawable;
 import android.os.Build.VERSION;
 import android.util.AttributeSet;
 import android.util.Log;
+import android.util.Xml;
 import androidx.collection.ArrayMap;
 import androidx.core.content.res.ComplexColorCompat;
+import androidx.core.content.res.ResourcesCompat;
 import androidx.core.content.res.TypedArrayUtils;
 import androidx.core.graphics.PathParser;
 import androidx.core.graphics.PathParser.PathDataNode;
 import androidx.core.graphics.drawable.DrawableCompat;
 import androidx.core.view.ViewCompat;
 import com.pritkathrotiya.thenews45.BuildConfig;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import org.xmlpull.v1.XmlPullParser;
 import org.xmlpull.v1.XmlPullParserException;
 
 public class VectorDrawableCompat extends VectorDrawableCommon {
+    private static final int COMPILED_VERSION = 1;
+    private static final Cap[] CAPS = Cap.values();
     private static final boolean DBG_VECTOR_DRAWABLE = false;
     static final Mode DEFAULT_TINT_MODE = Mode.SRC_IN;
     private static final int LINECAP_BUTT = 0;
@@ -52,7 +59,12 @@ public class VectorDrawableCompat extends VectorDrawableCommon {
     private static final int LINEJOIN_MITER = 0;
     private static final int LINEJOIN_ROUND = 1;
     static final String LOGTAG = "VectorDrawableCompat";
+    private static final Join[] JOINS = Join.values();
     private static final int MAX_CACHED_BITMAP_SIZE = 2048;
+    private static final Mode[] MODES = Mode.values();
+    private static final int NODE_CLIP_PATH = 2;
+    private static final int NODE_FULL_PATH = 1;
+    private static final int NODE_GROUP = 0;
     private static final String SHAPE_CLIP_PATH = "clip-path";
     private static final String SHAPE_GROUP = "group";
     private static final String SHAPE_PATH = "path";
@@ -497,6 +509,7 @@ public class VectorDrawableCompat extends VectorDrawableCommon {
 
     private static abstract class VPath extends VObject {
         int mChangingConfigurations;
+        private final float[] mCurrentPoint = new float[6];
         protected PathDataNode[] mNodes = null;
         String mPathName;
 
@@ -552,7 +565,7 @@ public class VectorDrawableCompat extends VectorDrawableCommon {
             path.reset();
             PathDataNode[] pathDataNodeArr = this.mNodes;
             if (pathDataNodeArr != null) {
-                PathDataNode.nodesToPath(pathDataNodeArr, path);
+                PathDataNode.nodesToPath(pathDataNodeArr, path, this.mCurrentPoint);
             }
         }
 
@@ -599,6 +612,7 @@ public class VectorDrawableCompat extends VectorDrawableCommon {
         final VGroup mRootGroup;
         String mRootName;
         Paint mStrokePaint;
+        private final float[] mTmpUnitVectors = new float[4];
         final ArrayMap<String, Object> mVGTargetsMap;
         float mViewportHeight;
         float mViewportWidth;
@@ -787,7 +801,11 @@ public class VectorDrawableCompat extends VectorDrawableCommon {
         }
 
         private float getMatrixScale(Matrix groupStackedMatrix) {
-            float[] unitVectors = {0.0f, 1.0f, 1.0f, 0.0f};
+            float[] unitVectors = this.mTmpUnitVectors;
+            unitVectors[0] = 0.0f;
+            unitVectors[1] = 1.0f;
+            unitVectors[2] = 1.0f;
+            unitVectors[3] = 0.0f;
             groupStackedMatrix.mapVectors(unitVectors);
             float scaleX = (float) Math.hypot((double) unitVectors[0], (double) unitVectors[1]);
             float scaleY = (float) Math.hypot((double) unitVectors[2], (double) unitVectors[3]);
@@ -814,12 +832,10 @@ public class VectorDrawableCompat extends VectorDrawableCommon {
     private static class VectorDrawableCompatState extends ConstantState {
         boolean mAutoMirrored;
         boolean mCacheDirty;
-        boolean mCachedAutoMirrored;
         Bitmap mCachedBitmap;
-        int mCachedRootAlpha;
+        Canvas mCachedCanvas;
+        Bitmap mCachedCanvasBitmap;
         int[] mCachedThemeAttrs;
-        ColorStateList mCachedTint;
-        Mode mCachedTintMode;
         int mChangingConfigurations;
         Paint mTempPaint;
         ColorStateList mTint;
@@ -867,7 +883,11 @@ public class VectorDrawableCompat extends VectorDrawableCommon {
 
         public void updateCachedBitmap(int width, int height) {
             this.mCachedBitmap.eraseColor(0);
-            this.mVPathRenderer.draw(new Canvas(this.mCachedBitmap), width, height, null);
+            if (this.mCachedCanvas == null || this.mCachedCanvasBitmap != this.mCachedBitmap) {
+                this.mCachedCanvas = new Canvas(this.mCachedBitmap);
+                this.mCachedCanvasBitmap = this.mCachedBitmap;
+            }
+            this.mVPathRenderer.draw(this.mCachedCanvas, width, height, null);
         }
 
         public void createCachedBitmapIfNeeded(int width, int height) {
@@ -884,19 +904,31 @@ public class VectorDrawableCompat extends VectorDrawableCommon {
             return false;
         }
 
-        public boolean canReuseCache() {
-            if (!this.mCacheDirty && this.mCachedTint == this.mTint && this.mCachedTintMode == this.mTintMode && this.mCachedAutoMirrored == this.mAutoMirrored && this.mCachedRootAlpha == this.mVPathRenderer.getRootAlpha()) {
-                return true;
+        public void obtainCachedBitmap(int width, int height) {
+            if (!this.mCacheDirty && this.mCachedBitmap != null && canReuseBitmap(width, height)) {
+                return;
             }
-            return false;
-        }
-
-        public void updateCacheStates() {
-            this.mCachedTint = this.mTint;
-            this.mCachedTintMode = this.mTintMode;
-            this.mCachedRootAlpha = this.mVPathRenderer.getRootAlpha();
-            this.mCachedAutoMirrored = this.mAutoMirrored;
-            this.mCacheDirty = false;
+            VectorRasterCache cache = VectorRasterCache.getInstance();
+            boolean dirty = this.mCacheDirty;
+            Bitmap bitmap = null;
+            if (dirty) {
+                cache.removeAll(this);
+                this.mCacheDirty = false;
+            } else {
+                bitmap = cache.get(this, width, height);
+            }
+            if (bitmap != null) {
+                this.mCachedBitmap = bitmap;
+                return;
+            }
+            if (this.mCachedBitmap == null || !canReuseBitmap(width, height)) {
+                this.mCachedBitmap = Bitmap.createBitmap(width, height, Config.ARGB_8888);
+                dirty = true;
+            }
+            if (dirty) {
+                updateCachedBitmap(width, height);
+            }
+            cache.put(this, width, height, this.mCachedBitmap);
         }
 
         public VectorDrawableCompatState() {
@@ -1100,12 +1132,12 @@ public class VectorDrawableCompat extends VectorDrawableCommon {
                     canvas.scale(-1.0f, 1.0f);
                 }
                 this.mTmpBounds.offsetTo(0, 0);
-                this.mVectorState.createCachedBitmapIfNeeded(scaledWidth, scaledHeight2);
                 if (!this.mAllowCaching) {
+                    this.mVectorState.createCachedBitmapIfNeeded(scaledWidth, scaledHeight2);
                     this.mVectorState.updateCachedBitmap(scaledWidth, scaledHeight2);
-                } else if (!this.mVectorState.canReuseCache()) {
-                    this.mVectorState.updateCachedBitmap(scaledWidth, scaledHeight2);
-                    this.mVectorState.updateCacheStates();
+                    this.mVectorState.mCacheDirty = true;
+                } else {
+                    this.mVectorState.obtainCachedBitmap(scaledWidth, scaledHeight2);
                 }
                 this.mVectorState.drawCachedBitmapWithRootAlpha(canvas, colorFilter, this.mTmpBounds);
                 canvas.restoreToCount(saveCount);
@@ -1270,58 +1302,42 @@ public class VectorDrawableCompat extends VectorDrawableCommon {
         return Math.min(this.mVectorState.mVPathRenderer.mViewportWidth / intrinsicWidth, this.mVectorState.mVPathRenderer.mViewportHeight / intrinsicHeight);
     }
 
-    /* JADX WARNING: Removed duplicated region for block: B:12:0x0039 A[Catch:{ XmlPullParserException -> 0x004b, IOException -> 0x0046 }] */
-    /* JADX WARNING: Removed duplicated region for block: B:14:0x003e A[Catch:{ XmlPullParserException -> 0x004b, IOException -> 0x0046 }] */
-    /* Code decompiled incorrectly, please refer to instructions dump. */
-    public static androidx.vectordrawable.graphics.drawable.VectorDrawableCompat create(android.content.res.Resources r7, int r8, android.content.res.Resources.Theme r9) {
-        /*
-            java.lang.String r0 = "parser error"
-            java.lang.String r1 = "VectorDrawableCompat"
-            int r2 = android.os.Build.VERSION.SDK_INT
-            r3 = 24
-            if (r2 < r3) goto L_0x0023
-            androidx.vectordrawable.graphics.drawable.VectorDrawableCompat r0 = new androidx.vectordrawable.graphics.drawable.VectorDrawableCompat
-            r0.<init>()
-            android.graphics.drawable.Drawable r1 = androidx.core.content.res.ResourcesCompat.getDrawable(r7, r8, r9)
-            r0.mDelegateDrawable = r1
-            androidx.vectordrawable.graphics.drawable.VectorDrawableCompat$VectorDrawableDelegateState r1 = new androidx.vectordrawable.graphics.drawable.VectorDrawableCompat$VectorDrawableDelegateState
-            android.graphics.drawable.Drawable r2 = r0.mDelegateDrawable
-            android.graphics.drawable.Drawable$ConstantState r2 = r2.getConstantState()
-            r1.<init>(r2)
-            r0.mCachedConstantStateDelegate = r1
-            return r0
-        L_0x0023:
-            android.content.res.XmlResourceParser r2 = r7.getXml(r8)     // Catch:{ XmlPullParserException -> 0x004b, IOException -> 0x0046 }
-            android.util.AttributeSet r3 = android.util.Xml.asAttributeSet(r2)     // Catch:{ XmlPullParserException -> 0x004b, IOException -> 0x0046 }
-        L_0x002b:
-            int r4 = r2.next()     // Catch:{ XmlPullParserException -> 0x004b, IOException -> 0x0046 }
-            r5 = r4
-            r6 = 2
-            if (r4 == r6) goto L_0x0037
-            r4 = 1
-            if (r5 == r4) goto L_0x0037
-            goto L_0x002b
-        L_0x0037:
-            if (r5 != r6) goto L_0x003e
-            androidx.vectordrawable.graphics.drawable.VectorDrawableCompat r0 = createFromXmlInner(r7, r2, r3, r9)     // Catch:{ XmlPullParserException -> 0x004b, IOException -> 0x0046 }
-            return r0
-        L_0x003e:
-            org.xmlpull.v1.XmlPullParserException r4 = new org.xmlpull.v1.XmlPullParserException     // Catch:{ XmlPullParserException -> 0x004b, IOException -> 0x0046 }
-            java.lang.String r6 = "No start tag found"
-            r4.<init>(r6)     // Catch:{ XmlPullParserException -> 0x004b, IOException -> 0x0046 }
-            throw r4     // Catch:{ XmlPullParserException -> 0x004b, IOException -> 0x0046 }
-        L_0x0046:
-            r2 = move-exception
-            android.util.Log.e(r1, r0, r2)
-            goto L_0x0050
-        L_0x004b:
-            r2 = move-exception
-            android.util.Log.e(r1, r0, r2)
-        L_0x0050:
-            r0 = 0
-            return r0
-        */
-        throw new UnsupportedOperationException("Method not decompiled: androidx.vectordrawable.graphics.drawable.VectorDrawableCompat.create(android.content.res.Resources, int, android.content.res.Resources$Theme):androidx.vectordrawable.graphics.drawable.VectorDrawableCompat");
+    public static VectorDrawableCompat create(Resources res, int resId, Theme theme) {
+        String str = "parser error";
+        String str2 = LOGTAG;
+        if (VERSION.SDK_INT >= 24) {
+            VectorDrawableCompat drawable = new VectorDrawableCompat();
+            drawable.mDelegateDrawable = ResourcesCompat.getDrawable(res, resId, theme);
+            drawable.mCachedConstantStateDelegate = new VectorDrawableDelegateState(drawable.mDelegateDrawable.getConstantState());
+            return drawable;
+        }
+        VectorTreeCache cache = VectorTreeCache.getInstance();
+        CompiledVector compiled = cache.get(res, resId, theme);
+        if (compiled != null) {
+            VectorDrawableCompat drawable2 = new VectorDrawableCompat();
+            drawable2.inflateCompiled(compiled);
+            return drawable2;
+        }
+        try {
+            XmlPullParser parser = res.getXml(resId);
+            AttributeSet attrs = Xml.asAttributeSet(parser);
+            int type;
+            do {
+                type = parser.next();
+            } while (type != 2 && type != 1);
+            if (type == 2) {
+                VectorDrawableCompat drawable3 = createFromXmlInner(res, parser, attrs, theme);
+                cache.put(res, resId, theme, drawable3.compile());
+                return drawable3;
+            }
+            throw new XmlPullParserException("No start tag found");
+        } catch (XmlPullParserException e) {
+            Log.e(str2, str, e);
+            return null;
+        } catch (IOException e2) {
+            Log.e(str2, str, e2);
+            return null;
+        }
     }
 
     public static VectorDrawableCompat createFromXmlInner(Resources r, XmlPullParser parser, AttributeSet attrs, Theme theme) throws XmlPullParserException, IOException {
@@ -1358,6 +1374,220 @@ public class VectorDrawableCompat extends VectorDrawableCommon {
         this.mTintFilter = updateTintFilter(this.mTintFilter, state.mTint, state.mTintMode);
     }
 
+    /* access modifiers changed from: 0000 */
+    public CompiledVector compile() {
+        VectorDrawableCompatState state = this.mVectorState;
+        VPathRenderer pathRenderer = state.mVPathRenderer;
+        ArrayList<Object> refs = new ArrayList<>();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        DataOutputStream out = new DataOutputStream(bytes);
+        try {
+            out.writeInt(COMPILED_VERSION);
+            out.writeInt(state.mChangingConfigurations);
+            out.writeByte(state.mTintMode.ordinal());
+            writeRef(out, refs, state.mTint);
+            out.writeBoolean(state.mAutoMirrored);
+            out.writeFloat(pathRenderer.mBaseWidth);
+            out.writeFloat(pathRenderer.mBaseHeight);
+            out.writeFloat(pathRenderer.mViewportWidth);
+            out.writeFloat(pathRenderer.mViewportHeight);
+            out.writeInt(pathRenderer.mRootAlpha);
+            writeRef(out, refs, pathRenderer.mRootName);
+            writeGroup(out, refs, pathRenderer.mRootGroup);
+            out.flush();
+            return new CompiledVector(bytes.toByteArray(), refs.toArray());
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /* access modifiers changed from: 0000 */
+    public void inflateCompiled(CompiledVector compiled) {
+        ByteBuffer in = ByteBuffer.wrap(compiled.mData);
+        Object[] refs = compiled.mRefs;
+        if (in.getInt() == COMPILED_VERSION) {
+            VectorDrawableCompatState state = this.mVectorState;
+            VPathRenderer pathRenderer = new VPathRenderer();
+            state.mVPathRenderer = pathRenderer;
+            state.mChangingConfigurations = in.getInt();
+            state.mTintMode = MODES[in.get()];
+            ColorStateList tint = (ColorStateList) readRef(in, refs);
+            if (tint != null) {
+                state.mTint = tint;
+            }
+            state.mAutoMirrored = in.get() != 0;
+            pathRenderer.mBaseWidth = in.getFloat();
+            pathRenderer.mBaseHeight = in.getFloat();
+            pathRenderer.mViewportWidth = in.getFloat();
+            pathRenderer.mViewportHeight = in.getFloat();
+            pathRenderer.mRootAlpha = in.getInt();
+            String name = (String) readRef(in, refs);
+            if (name != null) {
+                pathRenderer.mRootName = name;
+                pathRenderer.mVGTargetsMap.put(name, pathRenderer);
+            }
+            readGroup(in, refs, pathRenderer.mRootGroup, pathRenderer.mVGTargetsMap);
+            state.mCacheDirty = true;
+            this.mTintFilter = updateTintFilter(this.mTintFilter, state.mTint, state.mTintMode);
+            return;
+        }
+        throw new IllegalArgumentException("Unsupported compiled vector version");
+    }
+
+    private static void writeGroup(DataOutputStream out, ArrayList<Object> refs, VGroup group) throws IOException {
+        writeRef(out, refs, group.mGroupName);
+        out.writeFloat(group.mRotate);
+        out.writeFloat(group.mPivotX);
+        out.writeFloat(group.mPivotY);
+        out.writeFloat(group.mScaleX);
+        out.writeFloat(group.mScaleY);
+        out.writeFloat(group.mTranslateX);
+        out.writeFloat(group.mTranslateY);
+        ArrayList<VObject> children = group.mChildren;
+        out.writeInt(children.size());
+        for (int i = 0; i < children.size(); i++) {
+            VObject child = (VObject) children.get(i);
+            if (child instanceof VGroup) {
+                out.writeByte(NODE_GROUP);
+                writeGroup(out, refs, (VGroup) child);
+            } else if (child instanceof VFullPath) {
+                VFullPath path = (VFullPath) child;
+                out.writeByte(NODE_FULL_PATH);
+                writePath(out, refs, path);
+                writeRef(out, refs, path.mFillColor != null ? path.mFillColor.copy() : null);
+                out.writeFloat(path.mFillAlpha);
+                out.writeInt(path.mFillRule);
+                writeRef(out, refs, path.mStrokeColor != null ? path.mStrokeColor.copy() : null);
+                out.writeFloat(path.mStrokeAlpha);
+                out.writeFloat(path.mStrokeWidth);
+                out.writeByte(path.mStrokeLineCap.ordinal());
+                out.writeByte(path.mStrokeLineJoin.ordinal());
+                out.writeFloat(path.mStrokeMiterlimit);
+                out.writeFloat(path.mTrimPathStart);
+                out.writeFloat(path.mTrimPathEnd);
+                out.writeFloat(path.mTrimPathOffset);
+            } else if (child instanceof VClipPath) {
+                out.writeByte(NODE_CLIP_PATH);
+                writePath(out, refs, (VClipPath) child);
+            } else {
+                throw new IllegalStateException("Unknown object in the tree!");
+            }
+        }
+    }
+
+    private static void writePath(DataOutputStream out, ArrayList<Object> refs, VPath path) throws IOException {
+        writeRef(out, refs, path.mPathName);
+        PathDataNode[] nodes = path.mNodes;
+        if (nodes == null) {
+            out.writeInt(-1);
+            return;
+        }
+        out.writeInt(nodes.length);
+        for (PathDataNode node : nodes) {
+            float[] params = node.mParams;
+            out.writeChar(node.mType);
+            out.writeInt(params.length);
+            for (float param : params) {
+                out.writeFloat(param);
+            }
+        }
+    }
+
+    private static void writeRef(DataOutputStream out, ArrayList<Object> refs, Object value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        out.writeInt(refs.size());
+        refs.add(value);
+    }
+
+    private static void readGroup(ByteBuffer in, Object[] refs, VGroup group, ArrayMap<String, Object> targetsMap) {
+        VPath path;
+        group.mGroupName = (String) readRef(in, refs);
+        group.mRotate = in.getFloat();
+        group.mPivotX = in.getFloat();
+        group.mPivotY = in.getFloat();
+        group.mScaleX = in.getFloat();
+        group.mScaleY = in.getFloat();
+        group.mTranslateX = in.getFloat();
+        group.mTranslateY = in.getFloat();
+        group.updateLocalMatrix();
+        int count = in.getInt();
+        group.mChildren.ensureCapacity(count);
+        for (int i = 0; i < count; i++) {
+            byte type = in.get();
+            if (type == NODE_GROUP) {
+                VGroup child = new VGroup();
+                readGroup(in, refs, child, targetsMap);
+                group.mChildren.add(child);
+                if (child.getGroupName() != null) {
+                    targetsMap.put(child.getGroupName(), child);
+                }
+            } else {
+                if (type == NODE_FULL_PATH) {
+                    VFullPath fullPath = new VFullPath();
+                    readPath(in, refs, fullPath);
+                    fullPath.mFillColor = readColor(in, refs);
+                    fullPath.mFillAlpha = in.getFloat();
+                    fullPath.mFillRule = in.getInt();
+                    fullPath.mStrokeColor = readColor(in, refs);
+                    fullPath.mStrokeAlpha = in.getFloat();
+                    fullPath.mStrokeWidth = in.getFloat();
+                    fullPath.mStrokeLineCap = CAPS[in.get()];
+                    fullPath.mStrokeLineJoin = JOINS[in.get()];
+                    fullPath.mStrokeMiterlimit = in.getFloat();
+                    fullPath.mTrimPathStart = in.getFloat();
+                    fullPath.mTrimPathEnd = in.getFloat();
+                    fullPath.mTrimPathOffset = in.getFloat();
+                    path = fullPath;
+                } else if (type == NODE_CLIP_PATH) {
+                    path = new VClipPath();
+                    readPath(in, refs, path);
+                } else {
+                    throw new IllegalStateException("Unknown object in the tree!");
+                }
+                group.mChildren.add(path);
+                if (path.mPathName != null) {
+                    targetsMap.put(path.mPathName, path);
+                }
+            }
+        }
+    }
+
+    private static void readPath(ByteBuffer in, Object[] refs, VPath path) {
+        path.mPathName = (String) readRef(in, refs);
+        int count = in.getInt();
+        if (count >= 0) {
+            PathDataNode[] nodes = new PathDataNode[count];
+            for (int i = 0; i < count; i++) {
+                char type = in.getChar();
+                float[] params = new float[in.getInt()];
+                for (int j = 0; j < params.length; j++) {
+                    params[j] = in.getFloat();
+                }
+                nodes[i] = new PathDataNode(type, params);
+            }
+            path.mNodes = nodes;
+        }
+    }
+
+    private static ComplexColorCompat readColor(ByteBuffer in, Object[] refs) {
+        ComplexColorCompat color = (ComplexColorCompat) readRef(in, refs);
+        if (color != null) {
+            return color.copy();
+        }
+        return null;
+    }
+
+    private static Object readRef(ByteBuffer in, Object[] refs) {
+        int index = in.getInt();
+        if (index < 0) {
+            return null;
+        }
+        return refs[index];
+    }
+
     private static Mode parseTintModeCompat(int value, Mode defaultMode) {
         if (value == 3) {
             return Mode.SRC_OVER;
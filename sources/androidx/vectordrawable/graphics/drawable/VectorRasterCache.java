@@ -0,0 +1,151 @@
+package androidx.vectordrawable.graphics.drawable;
+
+import android.graphics.Bitmap;
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map.Entry;
+
+public final class VectorRasterCache {
+    private static final int DEFAULT_MAX_BYTES = 4194304;
+    private static final VectorRasterCache sInstance = new VectorRasterCache();
+    private int mBytes;
+    private final LinkedHashMap<Key, Bitmap> mEntries = new LinkedHashMap<>(16, 0.75f, true);
+    private long mEvictionCount;
+    private long mHitCount;
+    private int mMaxBytes = DEFAULT_MAX_BYTES;
+    private long mMissCount;
+
+    private static final class Key {
+        private final int mHash;
+        final int mHeight;
+        final WeakReference<Object> mOwner;
+        final int mWidth;
+
+        Key(Object owner, int width, int height) {
+            this.mOwner = new WeakReference<>(owner);
+            this.mWidth = width;
+            this.mHeight = height;
+            this.mHash = (((System.identityHashCode(owner) * 31) + width) * 31) + height;
+        }
+
+        public int hashCode() {
+            return this.mHash;
+        }
+
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            if (this.mWidth != other.mWidth || this.mHeight != other.mHeight) {
+                return false;
+            }
+            Object owner = this.mOwner.get();
+            return owner != null && owner == other.mOwner.get();
+        }
+    }
+
+    private VectorRasterCache() {
+    }
+
+    public static VectorRasterCache getInstance() {
+        return sInstance;
+    }
+
+    /* access modifiers changed from: 0000 */
+    public synchronized Bitmap get(Object owner, int width, int height) {
+        Bitmap bitmap = (Bitmap) this.mEntries.get(new Key(owner, width, height));
+        if (bitmap != null) {
+            this.mHitCount++;
+            return bitmap;
+        }
+        this.mMissCount++;
+        return null;
+    }
+
+    /* access modifiers changed from: 0000 */
+    public synchronized void put(Object owner, int width, int height, Bitmap bitmap) {
+        int bytes = bitmap.getByteCount();
+        if (bytes <= this.mMaxBytes) {
+            purgeCleared();
+            Bitmap previous = (Bitmap) this.mEntries.put(new Key(owner, width, height), bitmap);
+            if (previous != null) {
+                this.mBytes -= previous.getByteCount();
+            }
+            this.mBytes += bytes;
+            trimToSize(this.mMaxBytes);
+        }
+    }
+
+    /* access modifiers changed from: 0000 */
+    public synchronized void removeAll(Object owner) {
+        Iterator<Entry<Key, Bitmap>> it = this.mEntries.entrySet().iterator();
+        while (it.hasNext()) {
+            Entry<Key, Bitmap> entry = (Entry) it.next();
+            Object entryOwner = ((Key) entry.getKey()).mOwner.get();
+            if (entryOwner == owner || entryOwner == null) {
+                it.remove();
+                this.mBytes -= ((Bitmap) entry.getValue()).getByteCount();
+            }
+        }
+    }
+
+    public synchronized void setMaxBytes(int maxBytes) {
+        if (maxBytes > 0) {
+            this.mMaxBytes = maxBytes;
+            trimToSize(maxBytes);
+        } else {
+            throw new IllegalArgumentException("maxBytes <= 0");
+        }
+    }
+
+    public synchronized int getMaxBytes() {
+        return this.mMaxBytes;
+    }
+
+    public synchronized int getSizeBytes() {
+        return this.mBytes;
+    }
+
+    public synchronized long getHitCount() {
+        return this.mHitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return this.mMissCount;
+    }
+
+    public synchronized long getEvictionCount() {
+        return this.mEvictionCount;
+    }
+
+    public synchronized void evictAll() {
+        this.mEntries.clear();
+        this.mBytes = 0;
+    }
+
+    private void trimToSize(int maxBytes) {
+        Iterator<Entry<Key, Bitmap>> it = this.mEntries.entrySet().iterator();
+        while (this.mBytes > maxBytes && it.hasNext()) {
+            Entry<Key, Bitmap> eldest = (Entry) it.next();
+            it.remove();
+            this.mBytes -= ((Bitmap) eldest.getValue()).getByteCount();
+            this.mEvictionCount++;
+        }
+    }
+
+    private void purgeCleared() {
+        Iterator<Entry<Key, Bitmap>> it = this.mEntries.entrySet().iterator();
+        while (it.hasNext()) {
+            Entry<Key, Bitmap> entry = (Entry) it.next();
+            if (((Key) entry.getKey()).mOwner.get() == null) {
+                it.remove();
+                this.mBytes -= ((Bitmap) entry.getValue()).getByteCount();
+            }
+        }
+    }
+}
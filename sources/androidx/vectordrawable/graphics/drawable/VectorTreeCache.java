@@ -0,0 +1,160 @@
+package androidx.vectordrawable.graphics.drawable;
+
+import android.content.res.AssetManager;
+import android.content.res.Configuration;
+import android.content.res.Resources;
+import android.content.res.Resources.Theme;
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map.Entry;
+
+public final class VectorTreeCache {
+    private static final int DEFAULT_MAX_BYTES = 524288;
+    private static final VectorTreeCache sInstance = new VectorTreeCache();
+    private int mBytes;
+    private final LinkedHashMap<Key, CompiledVector> mEntries = new LinkedHashMap<>(16, 0.75f, true);
+    private long mEvictionCount;
+    private long mHitCount;
+    private int mMaxBytes = DEFAULT_MAX_BYTES;
+    private long mMissCount;
+
+    private static final class Key {
+        final WeakReference<AssetManager> mAssets;
+        final Configuration mConfig;
+        private final int mHash;
+        final int mResId;
+        final WeakReference<Theme> mTheme;
+
+        Key(AssetManager assets, Configuration config, Theme theme, int resId) {
+            this.mAssets = new WeakReference<>(assets);
+            this.mConfig = config;
+            this.mTheme = theme != null ? new WeakReference<>(theme) : null;
+            this.mResId = resId;
+            this.mHash = (((((resId * 31) + config.hashCode()) * 31) + System.identityHashCode(assets)) * 31) + (theme != null ? theme.hashCode() : 0);
+        }
+
+        /* access modifiers changed from: 0000 */
+        public boolean isCleared() {
+            if (this.mAssets.get() == null) {
+                return true;
+            }
+            WeakReference<Theme> weakReference = this.mTheme;
+            return weakReference != null && weakReference.get() == null;
+        }
+
+        public int hashCode() {
+            return this.mHash;
+        }
+
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            if (this.mResId != other.mResId || this.mHash != other.mHash || !this.mConfig.equals(other.mConfig)) {
+                return false;
+            }
+            AssetManager assets = (AssetManager) this.mAssets.get();
+            if (assets == null || assets != other.mAssets.get()) {
+                return false;
+            }
+            WeakReference<Theme> weakReference = this.mTheme;
+            if (weakReference == null || other.mTheme == null) {
+                return weakReference == other.mTheme;
+            }
+            Theme theme = (Theme) weakReference.get();
+            return theme != null && theme.equals(other.mTheme.get());
+        }
+    }
+
+    private VectorTreeCache() {
+    }
+
+    public static VectorTreeCache getInstance() {
+        return sInstance;
+    }
+
+    /* access modifiers changed from: 0000 */
+    public synchronized CompiledVector get(Resources res, int resId, Theme theme) {
+        CompiledVector compiled = (CompiledVector) this.mEntries.get(new Key(res.getAssets(), res.getConfiguration(), theme, resId));
+        if (compiled != null) {
+            this.mHitCount++;
+            return compiled;
+        }
+        this.mMissCount++;
+        return null;
+    }
+
+    /* access modifiers changed from: 0000 */
+    public synchronized void put(Resources res, int resId, Theme theme, CompiledVector compiled) {
+        int bytes = compiled.getByteCount();
+        if (bytes <= this.mMaxBytes) {
+            purgeCleared();
+            CompiledVector previous = (CompiledVector) this.mEntries.put(new Key(res.getAssets(), new Configuration(res.getConfiguration()), theme, resId), compiled);
+            if (previous != null) {
+                this.mBytes -= previous.getByteCount();
+            }
+            this.mBytes += bytes;
+            trimToSize(this.mMaxBytes);
+        }
+    }
+
+    public synchronized void setMaxBytes(int maxBytes) {
+        if (maxBytes > 0) {
+            this.mMaxBytes = maxBytes;
+            trimToSize(maxBytes);
+        } else {
+            throw new IllegalArgumentException("maxBytes <= 0");
+        }
+    }
+
+    public synchronized int getMaxBytes() {
+        return this.mMaxBytes;
+    }
+
+    public synchronized int getSizeBytes() {
+        return this.mBytes;
+    }
+
+    public synchronized long getHitCount() {
+        return this.mHitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return this.mMissCount;
+    }
+
+    public synchronized long getEvictionCount() {
+        return this.mEvictionCount;
+    }
+
+    public synchronized void evictAll() {
+        this.mEntries.clear();
+        this.mBytes = 0;
+    }
+
+    private void trimToSize(int maxBytes) {
+        Iterator<Entry<Key, CompiledVector>> it = this.mEntries.entrySet().iterator();
+        while (this.mBytes > maxBytes && it.hasNext()) {
+            Entry<Key, CompiledVector> eldest = (Entry) it.next();
+            it.remove();
+            this.mBytes -= ((CompiledVector) eldest.getValue()).getByteCount();
+            this.mEvictionCount++;
+        }
+    }
+
+    private void purgeCleared() {
+        Iterator<Entry<Key, CompiledVector>> it = this.mEntries.entrySet().iterator();
+        while (it.hasNext()) {
+            Entry<Key, CompiledVector> entry = (Entry) it.next();
+            if (((Key) entry.getKey()).isCleared()) {
+                it.remove();
+                this.mBytes -= ((CompiledVector) entry.getValue()).getByteCount();
+            }
+        }
+    }
+}